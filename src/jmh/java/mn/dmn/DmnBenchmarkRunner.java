@@ -0,0 +1,44 @@
+package mn.dmn;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Runs the selected benchmarks once per thread count with the GC profiler, so
+ * every report includes allocation rates ({@code gc.alloc.rate.norm} is bytes per
+ * operation). One JSON report per thread count is written to {@code jmh.result.dir}.
+ *
+ * <p>System properties: {@code jmh.include} (benchmark regex), {@code jmh.threads}
+ * (comma separated thread counts) and {@code jmh.result.dir}.</p>
+ */
+public final class DmnBenchmarkRunner {
+
+    private DmnBenchmarkRunner() {}
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = System.getProperty("jmh.include", "mn\\.dmn\\..*Benchmark.*");
+        Path resultDir = Paths.get(System.getProperty("jmh.result.dir", "target/jmh"));
+        Files.createDirectories(resultDir);
+
+        for (String threads : System.getProperty("jmh.threads", "1").split(",")) {
+            int threadCount = Integer.parseInt(threads.trim());
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threadCount)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(resultDir.resolve("jmh-threads-" + threadCount + ".json").toString())
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
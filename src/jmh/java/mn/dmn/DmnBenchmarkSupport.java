@@ -0,0 +1,46 @@
+package mn.dmn;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Wires the evaluation pipeline by hand, without starting Quarkus, so the
+ * benchmarks measure the DMN code and not the container.
+ */
+final class DmnBenchmarkSupport {
+
+    static final String DMN_FILE = "sample-decision.dmn";
+    static final String DECISION = "Approval Decision";
+
+    private DmnBenchmarkSupport() {}
+
+    static DmnModelRegistry newRegistry() {
+        // No CDI: the compiled event is simply not fired
+        return new DmnModelRegistry();
+    }
+
+    /**
+     * A service with the result cache switched off, so every call evaluates.
+     */
+    static DmnService newService(DmnModelRegistry registry, DmnService.FastPathMode fastPathMode) {
+        DmnResultCache resultCache = new DmnResultCache();
+        resultCache.enabled = false;
+        resultCache.maxSize = 1;
+        resultCache.init();
+
+        DmnService service = new DmnService();
+        service.modelRegistry = registry;
+        service.resultCache = resultCache;
+        service.fastPathMode = fastPathMode;
+        service.batchParallelism = 1;
+        service.init();
+        return service;
+    }
+
+    static Map<String, Object> inputData(int age, int income) {
+        Map<String, Object> inputData = new HashMap<>();
+        inputData.put("age", age);
+        inputData.put("income", income);
+        return inputData;
+    }
+}
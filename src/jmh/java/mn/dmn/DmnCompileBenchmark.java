@@ -0,0 +1,46 @@
+package mn.dmn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a model cache miss: reading the DMN file and compiling it into a new
+ * KieContainer, which is what {@code loadDMNModel} pays on first use of a file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DmnCompileBenchmark {
+
+    private DmnModelRegistry registry;
+
+    @Setup
+    public void setUp() {
+        registry = DmnBenchmarkSupport.newRegistry();
+    }
+
+    @Benchmark
+    public CompiledDmnModel compileModel() {
+        DmnModelRegistry.DmnSource source = registry.resolve(DmnBenchmarkSupport.DMN_FILE);
+        return registry.compile(DmnBenchmarkSupport.DMN_FILE, DmnModelRegistry.fingerprint(source.content), source.content);
+    }
+
+    @Benchmark
+    public CompiledDmnModel cachedModel() {
+        // The warm path of loadDMNModel: a registry hit
+        return registry.get(DmnBenchmarkSupport.DMN_FILE);
+    }
+}
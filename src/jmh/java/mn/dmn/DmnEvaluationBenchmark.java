@@ -0,0 +1,99 @@
+package mn.dmn;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warm evaluation of {@code sample-decision.dmn}, stage by stage: the KIE engine
+ * calls, result extraction and the whole {@link DmnService} path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DmnEvaluationBenchmark {
+
+    /** Approved by the first rule, or rejected after scanning to the fourth. */
+    @Param({"25:50000", "25:20000"})
+    public String input;
+
+    @Param({"DISABLED", "ENABLED"})
+    public DmnService.FastPathMode fastPath;
+
+    private DmnService service;
+    private CompiledDmnModel compiledModel;
+    private DMNRuntime runtime;
+    private DMNModel model;
+    private Map<String, Object> inputData;
+    private DMNResult decisionResult;
+
+    @Setup
+    public void setUp() {
+        DmnModelRegistry registry = DmnBenchmarkSupport.newRegistry();
+        service = DmnBenchmarkSupport.newService(registry, fastPath);
+        compiledModel = registry.get(DmnBenchmarkSupport.DMN_FILE);
+        runtime = compiledModel.getRuntime();
+        model = compiledModel.getModel();
+
+        String[] values = input.split(":");
+        inputData = DmnBenchmarkSupport.inputData(Integer.parseInt(values[0]), Integer.parseInt(values[1]));
+        decisionResult = runtime.evaluateByName(model, newContext(), DmnBenchmarkSupport.DECISION);
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public DMNResult evaluateByName() {
+        return runtime.evaluateByName(model, newContext(), DmnBenchmarkSupport.DECISION);
+    }
+
+    @Benchmark
+    public DMNResult evaluateAll() {
+        return runtime.evaluateAll(model, newContext());
+    }
+
+    @Benchmark
+    public DmnResponse processResult() {
+        return service.processResult(decisionResult, DmnBenchmarkSupport.DECISION, model);
+    }
+
+    @Benchmark
+    public boolean convertToBoolean() {
+        return service.convertToBoolean(BigDecimal.TEN);
+    }
+
+    @Benchmark
+    public DmnResponse serviceEvaluate() {
+        // Engine or fast path depending on the fastPath parameter
+        return service.evaluate(compiledModel, DmnBenchmarkSupport.DECISION, inputData);
+    }
+
+    private DMNContext newContext() {
+        DMNContext context = runtime.newContext();
+        inputData.forEach(context::set);
+        return context;
+    }
+}
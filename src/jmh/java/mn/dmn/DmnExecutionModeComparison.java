@@ -0,0 +1,156 @@
+package mn.dmn;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+
+/**
+ * Compares throughput and tail latency of {@code POST /dmn/evaluate} between running
+ * instances of the service, typically one started with {@code dmn.execution.mode=worker}
+ * and one with {@code dmn.execution.mode=virtual}.
+ *
+ * <p>Each target is driven by {@code connections} concurrent clients (one virtual
+ * thread each) that send requests back to back for {@code warmup} and then
+ * {@code duration} seconds; only the second phase is measured. A summary is printed
+ * and written as JSON to {@code jmh.result.dir/execution-modes.json}.</p>
+ *
+ * <p>System properties: {@code targets} ({@code name=url} pairs, comma separated),
+ * {@code connections}, {@code duration}, {@code warmup}, {@code dmnFile} and
+ * {@code decisionName}.</p>
+ */
+public final class DmnExecutionModeComparison {
+
+    private DmnExecutionModeComparison() {}
+
+    public static void main(String[] args) throws Exception {
+        String targets = System.getProperty("targets", "worker=http://localhost:8080,virtual=http://localhost:8081");
+        int connections = Integer.getInteger("connections", 1000);
+        int durationSeconds = Integer.getInteger("duration", 30);
+        int warmupSeconds = Integer.getInteger("warmup", 10);
+        String body = """
+                {"dmnFile":"%s","decisionName":"%s","inputData":{"age":25,"income":50000}}""".formatted(
+                System.getProperty("dmnFile", DmnBenchmarkSupport.DMN_FILE),
+                System.getProperty("decisionName", DmnBenchmarkSupport.DECISION));
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (String target : targets.split(",")) {
+            String[] parts = target.split("=", 2);
+            URI uri = URI.create(parts[1].trim().replaceAll("/$", "") + "/dmn/evaluate");
+            System.out.printf("%s: %d connections against %s%n", parts[0], connections, uri);
+            run(uri, body, connections, warmupSeconds);
+            results.put(parts[0].trim(), run(uri, body, connections, durationSeconds));
+        }
+
+        System.out.printf("%n%-10s %12s %10s %10s %10s %10s%n", "target", "req/s", "p50 ms", "p99 ms", "p999 ms", "errors");
+        results.forEach((name, result) -> System.out.printf(Locale.ROOT, "%-10s %12.1f %10.2f %10.2f %10.2f %10d%n",
+                name, result.throughput, result.p50Ms, result.p99Ms, result.p999Ms, result.errors));
+        write(results, connections, durationSeconds);
+    }
+
+    private static Result run(URI uri, String body, int connections, int seconds) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                // Every request must reach the evaluation, not the result cache
+                .header(DmnController.CACHE_HEADER, "bypass")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder errors = new LongAdder();
+        List<Latencies> latencies = new ArrayList<>(connections);
+        List<Thread> clients = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            Latencies recorded = new Latencies();
+            latencies.add(recorded);
+            clients.add(Thread.ofVirtual().start(() -> {
+                while (running.get()) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.increment();
+                        }
+                    } catch (IOException e) {
+                        errors.increment();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    recorded.add(System.nanoTime() - start);
+                }
+            }));
+        }
+
+        long start = System.nanoTime();
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        for (Thread thread : clients) {
+            thread.join();
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        client.close();
+
+        long[] all = latencies.stream().flatMapToLong(Latencies::stream).sorted().toArray();
+        return new Result(all.length / elapsed, percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999), errors.sum());
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static void write(Map<String, Result> results, int connections, int durationSeconds) throws IOException {
+        Path resultDir = Paths.get(System.getProperty("jmh.result.dir", "target/jmh"));
+        Files.createDirectories(resultDir);
+        StringBuilder json = new StringBuilder("{\"connections\":").append(connections)
+                .append(",\"durationSeconds\":").append(durationSeconds).append(",\"targets\":{");
+        String separator = "";
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            Result result = entry.getValue();
+            json.append(separator).append('"').append(entry.getKey()).append("\":")
+                    .append(String.format(Locale.ROOT, "{\"throughput\":%.1f,\"p50Ms\":%.3f,\"p99Ms\":%.3f,\"p999Ms\":%.3f,\"errors\":%d}",
+                            result.throughput, result.p50Ms, result.p99Ms, result.p999Ms, result.errors));
+            separator = ",";
+        }
+        json.append("}}");
+        Files.writeString(resultDir.resolve("execution-modes.json"), json);
+    }
+
+    private record Result(double throughput, double p50Ms, double p99Ms, double p999Ms, long errors) {}
+
+    /** Latencies of one client, appended without synchronization. */
+    private static final class Latencies {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        LongStream stream() {
+            return Arrays.stream(values, 0, size);
+        }
+    }
+}
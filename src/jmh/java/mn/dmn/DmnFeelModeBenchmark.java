@@ -0,0 +1,69 @@
+package mn.dmn;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warm engine evaluation of a model compiled with interpreted and with compiled
+ * FEEL ({@code dmn.feel.mode}). Only the KIE runtime is measured: the fast path
+ * bypasses FEEL for qualifying tables and would hide the difference.
+ * {@link DmnFeelModeComparison} runs this benchmark and reports the speedup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DmnFeelModeBenchmark {
+
+    @Param({DmnBenchmarkSupport.DMN_FILE})
+    public String dmnFile;
+
+    @Param({"INTERPRETED", "COMPILED"})
+    public DmnModelRegistry.FeelMode feelMode;
+
+    /** Approved by the first rule, or rejected after scanning to the fourth. */
+    @Param({"25:50000", "25:20000"})
+    public String input;
+
+    private DMNRuntime runtime;
+    private DMNModel model;
+    private Map<String, Object> inputData;
+
+    @Setup
+    public void setUp() {
+        DmnModelRegistry registry = DmnBenchmarkSupport.newRegistry();
+        DmnModelRegistry.DmnSource source = registry.resolve(dmnFile);
+        CompiledDmnModel compiledModel = registry.compile(dmnFile, DmnModelRegistry.fingerprint(source.content),
+                source.content, feelMode);
+        runtime = compiledModel.getRuntime();
+        model = compiledModel.getModel();
+
+        String[] values = input.split(":");
+        inputData = DmnBenchmarkSupport.inputData(Integer.parseInt(values[0]), Integer.parseInt(values[1]));
+    }
+
+    @Benchmark
+    public DMNResult evaluateAll() {
+        DMNContext context = runtime.newContext();
+        inputData.forEach(context::set);
+        return runtime.evaluateAll(model, context);
+    }
+}
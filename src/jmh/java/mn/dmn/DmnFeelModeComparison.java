@@ -0,0 +1,72 @@
+package mn.dmn;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Runs {@link DmnFeelModeBenchmark} on the given DMN files in both FEEL modes and
+ * reports how much faster compiled FEEL evaluates than interpreted FEEL. The raw
+ * JMH report goes to {@code jmh.result.dir/feel-modes-jmh.json} and the summary,
+ * with one speedup per file and input, to {@code jmh.result.dir/feel-modes.json}.
+ *
+ * <p>System properties: {@code dmnFiles} (comma separated, default
+ * {@code sample-decision.dmn}) and {@code jmh.result.dir}. Inputs are the
+ * {@code age}/{@code income} pairs of the benchmark.</p>
+ */
+public final class DmnFeelModeComparison {
+
+    private DmnFeelModeComparison() {}
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path resultDir = Paths.get(System.getProperty("jmh.result.dir", "target/jmh"));
+        Files.createDirectories(resultDir);
+
+        Options options = new OptionsBuilder()
+                .include(DmnFeelModeBenchmark.class.getName())
+                .param("dmnFile", System.getProperty("dmnFiles", DmnBenchmarkSupport.DMN_FILE).split(","))
+                .threads(1)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultDir.resolve("feel-modes-jmh.json").toString())
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        // dmnFile:input -> mode -> ns/op
+        Map<String, Map<String, Double>> scores = new LinkedHashMap<>();
+        for (RunResult result : results) {
+            String key = result.getParams().getParam("dmnFile") + " " + result.getParams().getParam("input");
+            scores.computeIfAbsent(key, k -> new LinkedHashMap<>())
+                    .put(result.getParams().getParam("feelMode"), result.getPrimaryResult().getScore());
+        }
+
+        System.out.printf("%n%-40s %16s %16s %10s%n", "model input", "interpreted ns", "compiled ns", "speedup");
+        StringBuilder json = new StringBuilder("{\"unit\":\"ns/op\",\"results\":[");
+        String separator = "";
+        for (Map.Entry<String, Map<String, Double>> entry : scores.entrySet()) {
+            double interpreted = entry.getValue().getOrDefault(DmnModelRegistry.FeelMode.INTERPRETED.name(), Double.NaN);
+            double compiled = entry.getValue().getOrDefault(DmnModelRegistry.FeelMode.COMPILED.name(), Double.NaN);
+            double speedup = interpreted / compiled;
+            String[] key = entry.getKey().split(" ", 2);
+            System.out.printf(Locale.ROOT, "%-40s %16.1f %16.1f %9.2fx%n", entry.getKey(), interpreted, compiled, speedup);
+            json.append(separator)
+                    .append(String.format(Locale.ROOT,
+                            "{\"dmnFile\":\"%s\",\"input\":\"%s\",\"interpreted\":%.1f,\"compiled\":%.1f,\"speedup\":%.3f}",
+                            key[0], key[1], interpreted, compiled, speedup));
+            separator = ",";
+        }
+        json.append("]}");
+        Files.writeString(resultDir.resolve("feel-modes.json"), json);
+    }
+}
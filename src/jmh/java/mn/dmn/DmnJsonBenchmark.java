@@ -0,0 +1,89 @@
+package mn.dmn;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binding of the HTTP payloads: JSON-B for {@link DmnRequest} and
+ * {@link DmnResponse}, and the hand written {@link DmnResponseWriter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DmnJsonBenchmark {
+
+    private static final String REQUEST_JSON = """
+            {"dmnFile":"sample-decision.dmn","decisionName":"Approval Decision","inputData":{"age":25,"income":50000}}""";
+
+    private Jsonb jsonb;
+    private DmnResponseWriter writer;
+    private DmnResponse response;
+
+    @Setup
+    public void setUp() {
+        jsonb = JsonbBuilder.create();
+        writer = new DmnResponseWriter();
+        response = DmnResponse.evaluated(true, DmnBenchmarkSupport.DECISION, new BigDecimal("50000"));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        jsonb.close();
+    }
+
+    @Benchmark
+    public DmnRequest bindRequest() {
+        return jsonb.fromJson(REQUEST_JSON, DmnRequest.class);
+    }
+
+    @Benchmark
+    public String jsonbResponse() {
+        // A new response each time, so the lazy reason is formatted like on a first write
+        return jsonb.toJson(DmnResponse.evaluated(true, DmnBenchmarkSupport.DECISION, Boolean.TRUE));
+    }
+
+    @Benchmark
+    public void writerResponse(Blackhole blackhole) throws IOException {
+        writer.writeTo(response, DmnResponse.class, DmnResponse.class, null, null, null, new BlackholeStream(blackhole));
+    }
+
+    private static final class BlackholeStream extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        BlackholeStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            blackhole.consume(bytes);
+            blackhole.consume(length);
+        }
+    }
+}
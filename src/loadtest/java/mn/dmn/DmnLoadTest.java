@@ -0,0 +1,404 @@
+package mn.dmn;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonWriter;
+import jakarta.json.JsonWriterFactory;
+import jakarta.json.stream.JsonGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load test of {@code POST /dmn/evaluate}: requests are sent at a constant
+ * arrival rate whether or not earlier ones have completed, the way independent
+ * clients behave, so a slow server builds up a queue instead of slowing the load down.
+ *
+ * <p>Each rate in {@code rates} is one stage: {@code warmup} seconds that are not
+ * measured, then {@code duration} seconds that are. A request's latency runs from
+ * the time it was scheduled to be sent, not the time it actually was, so a stalled
+ * sender cannot hide latency (coordinated omission). Requests are drawn from a
+ * weighted payload mix with a fixed {@code seed}, so two runs send the same sequence.
+ * Throughput, p50/p99/p999 and errors per stage and per payload are printed and
+ * written to {@code loadtest.result.dir/<label>.json}, the input of
+ * {@link DmnLoadTestComparison}.</p>
+ *
+ * <p>Without {@code target} the packaged service ({@code target/quarkus-app/quarkus-run.jar})
+ * is started on {@code port} with {@code jvmArgs}, e.g. the heap of the pod being
+ * sized, and stopped afterwards.</p>
+ *
+ * <p>System properties: {@code target}, {@code port}, {@code jvmArgs}, {@code rates}
+ * (requests per second, comma separated), {@code duration}, {@code warmup},
+ * {@code mix} (a JSON file, default {@code loadtest-mix.json} on the classpath),
+ * {@code seed}, {@code maxInFlight}, {@code label} and {@code loadtest.result.dir}.</p>
+ */
+public final class DmnLoadTest {
+
+    private DmnLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        String target = System.getProperty("target", "");
+        int port = Integer.getInteger("port", 8090);
+        String jvmArgs = System.getProperty("jvmArgs", "");
+        int[] rates = Arrays.stream(System.getProperty("rates", "100,500,1000").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        int durationSeconds = Integer.getInteger("duration", 60);
+        int warmupSeconds = Integer.getInteger("warmup", 15);
+        long seed = Long.getLong("seed", 42L);
+        int maxInFlight = Integer.getInteger("maxInFlight", 10_000);
+        String label = System.getProperty("label", "current");
+        Path resultDir = Paths.get(System.getProperty("loadtest.result.dir", "target/loadtest"));
+        List<Payload> mix = readMix(System.getProperty("mix", ""));
+
+        Process service = null;
+        if (target.isBlank()) {
+            service = start(port, jvmArgs);
+            target = "http://localhost:" + port;
+        }
+        try {
+            URI baseUri = URI.create(target.replaceAll("/$", ""));
+            awaitHealthy(baseUri, Duration.ofSeconds(120));
+
+            List<Stage> stages = new ArrayList<>(rates.length);
+            for (int rate : rates) {
+                System.out.printf("%d req/s: %ds warmup, %ds measured against %s%n", rate, warmupSeconds, durationSeconds, baseUri);
+                Random random = new Random(seed);
+                run(baseUri, mix, random, rate, warmupSeconds, maxInFlight);
+                stages.add(run(baseUri, mix, random, rate, durationSeconds, maxInFlight));
+            }
+
+            print(stages, mix);
+            write(resultDir.resolve(label + ".json"), label, target, durationSeconds, seed, stages, mix);
+        } finally {
+            if (service != null) {
+                service.destroy();
+                if (!service.waitFor(30, TimeUnit.SECONDS)) {
+                    service.destroyForcibly();
+                }
+            }
+        }
+    }
+
+    private static Stage run(URI baseUri, List<Payload> mix, Random random, int rate, int seconds, int maxInFlight)
+            throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        URI uri = baseUri.resolve("/dmn/evaluate");
+        int total = Math.toIntExact((long) rate * seconds);
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        // One slot per request, written by the thread that sent it
+        long[] latencies = new long[total];
+        int[] payloads = new int[total];
+        boolean[] failed = new boolean[total];
+        LongAdder dropped = new LongAdder();
+        AtomicInteger inFlight = new AtomicInteger();
+        List<Thread> senders = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long scheduled = start + i * interval;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int payloadIndex = pick(mix, random);
+            payloads[i] = payloadIndex;
+            HttpRequest request = mix.get(payloadIndex).request(uri, random);
+            if (inFlight.get() >= maxInFlight) {
+                // The server is this far behind; count the request instead of queueing without bound
+                dropped.increment();
+                latencies[i] = -1;
+                continue;
+            }
+            inFlight.incrementAndGet();
+            int slot = i;
+            senders.add(Thread.ofVirtual().start(() -> {
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    failed[slot] = response.statusCode() != 200;
+                } catch (IOException e) {
+                    failed[slot] = true;
+                } catch (InterruptedException e) {
+                    failed[slot] = true;
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latencies[slot] = System.nanoTime() - scheduled;
+                    inFlight.decrementAndGet();
+                }
+            }));
+        }
+        for (Thread sender : senders) {
+            sender.join();
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        client.close();
+        return Stage.of(rate, elapsed, latencies, payloads, failed, dropped.sum(), mix.size());
+    }
+
+    private static int pick(List<Payload> mix, Random random) {
+        int totalWeight = mix.getLast().cumulativeWeight;
+        int point = random.nextInt(totalWeight);
+        for (int i = 0; i < mix.size(); i++) {
+            if (point < mix.get(i).cumulativeWeight) {
+                return i;
+            }
+        }
+        return mix.size() - 1;
+    }
+
+    private static Process start(int port, String jvmArgs) throws IOException {
+        Path jar = Paths.get("target", "quarkus-app", "quarkus-run.jar");
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar + " not found; package the application first or set -Dtarget");
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (!jvmArgs.isBlank()) {
+            command.addAll(Arrays.asList(jvmArgs.trim().split("\\s+")));
+        }
+        command.add("-Dquarkus.http.port=" + port);
+        // The gRPC server is not under test; keep it off the default port of a running instance
+        command.add("-Dquarkus.grpc.server.port=" + (port + 1));
+        command.add("-jar");
+        command.add(jar.toString());
+        Path log = Paths.get("target", "loadtest", "service.log");
+        Files.createDirectories(log.getParent());
+        System.out.printf("Starting %s (log: %s)%n", String.join(" ", command), log);
+        return new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+    }
+
+    private static void awaitHealthy(URI baseUri, Duration timeout) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest health = HttpRequest.newBuilder(baseUri.resolve("/dmn/health")).GET().build();
+        Instant deadline = Instant.now().plus(timeout);
+        while (Instant.now().isBefore(deadline)) {
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    client.close();
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        client.close();
+        throw new IllegalStateException(baseUri + " did not become healthy within " + timeout.toSeconds() + "s");
+    }
+
+    static List<Payload> readMix(String file) throws IOException {
+        JsonArray entries;
+        if (file.isBlank()) {
+            try (InputStream in = DmnLoadTest.class.getClassLoader().getResourceAsStream("loadtest-mix.json");
+                 JsonReader reader = Json.createReader(in)) {
+                entries = reader.readArray();
+            }
+        } else {
+            try (Reader in = Files.newBufferedReader(Paths.get(file)); JsonReader reader = Json.createReader(in)) {
+                entries = reader.readArray();
+            }
+        }
+        List<Payload> mix = new ArrayList<>(entries.size());
+        int cumulativeWeight = 0;
+        for (JsonObject entry : entries.getValuesAs(JsonObject.class)) {
+            cumulativeWeight += entry.getInt("weight", 1);
+            mix.add(new Payload(entry.getString("name"), entry.getJsonObject("body"),
+                    entry.getJsonObject("vary") == null ? JsonValue.EMPTY_JSON_OBJECT : entry.getJsonObject("vary"),
+                    entry.getBoolean("bypassCache", false), cumulativeWeight));
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The payload mix is empty");
+        }
+        return mix;
+    }
+
+    private static void print(List<Stage> stages, List<Payload> mix) {
+        System.out.printf("%n%8s %-20s %10s %10s %10s %10s %8s %8s%n",
+                "rate", "payload", "req/s", "p50 ms", "p99 ms", "p999 ms", "errors", "dropped");
+        for (Stage stage : stages) {
+            System.out.printf(Locale.ROOT, "%8d %-20s %10.1f %10.2f %10.2f %10.2f %8d %8d%n", stage.rate, "(all)",
+                    stage.throughput, stage.overall.p50Ms, stage.overall.p99Ms, stage.overall.p999Ms,
+                    stage.overall.errors, stage.dropped);
+            for (int i = 0; i < mix.size(); i++) {
+                Latency latency = stage.byPayload[i];
+                System.out.printf(Locale.ROOT, "%8s %-20s %10s %10.2f %10.2f %10.2f %8d%n", "", mix.get(i).name, "",
+                        latency.p50Ms, latency.p99Ms, latency.p999Ms, latency.errors);
+            }
+        }
+    }
+
+    private static void write(Path file, String label, String target, int durationSeconds, long seed,
+                              List<Stage> stages, List<Payload> mix) throws IOException {
+        JsonArrayBuilder stageArray = Json.createArrayBuilder();
+        for (Stage stage : stages) {
+            JsonObjectBuilder byPayload = Json.createObjectBuilder();
+            for (int i = 0; i < mix.size(); i++) {
+                byPayload.add(mix.get(i).name, stage.byPayload[i].toJson());
+            }
+            stageArray.add(Json.createObjectBuilder()
+                    .add("rate", stage.rate)
+                    .add("throughput", round(stage.throughput))
+                    .add("latency", stage.overall.toJson())
+                    .add("dropped", stage.dropped)
+                    .add("payloads", byPayload));
+        }
+        JsonObject report = Json.createObjectBuilder()
+                .add("label", label)
+                .add("target", target)
+                .add("timestamp", Instant.now().toString())
+                .add("durationSeconds", durationSeconds)
+                .add("seed", seed)
+                .add("client", Json.createObjectBuilder()
+                        .add("java", System.getProperty("java.version"))
+                        .add("processors", Runtime.getRuntime().availableProcessors()))
+                .add("stages", stageArray)
+                .build();
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        JsonWriterFactory writerFactory = Json.createWriterFactory(Map.of(JsonGenerator.PRETTY_PRINTING, true));
+        try (JsonWriter writer = writerFactory.createWriter(Files.newBufferedWriter(file))) {
+            writer.writeObject(report);
+        }
+        System.out.printf("%nReport written to %s%n", file);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    /**
+     * One entry of the payload mix. Integer ranges in {@code vary}, e.g.
+     * {@code "income": [20000, 90000]}, replace that input with a seeded random value per
+     * request, to exercise the engine instead of the result cache.
+     */
+    static final class Payload {
+
+        final String name;
+        final JsonObject body;
+        final JsonObject vary;
+        final boolean bypassCache;
+        final int cumulativeWeight;
+        private final String fixedBody;
+
+        Payload(String name, JsonObject body, JsonObject vary, boolean bypassCache, int cumulativeWeight) {
+            this.name = name;
+            this.body = body;
+            this.vary = vary;
+            this.bypassCache = bypassCache;
+            this.cumulativeWeight = cumulativeWeight;
+            this.fixedBody = vary.isEmpty() ? body.toString() : null;
+        }
+
+        HttpRequest request(URI uri, Random random) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(fixedBody != null ? fixedBody : body(random)));
+            if (bypassCache) {
+                builder.header(DmnController.CACHE_HEADER, "bypass");
+            }
+            return builder.build();
+        }
+
+        private String body(Random random) {
+            JsonObjectBuilder inputData = Json.createObjectBuilder(body.getJsonObject("inputData"));
+            for (Map.Entry<String, JsonValue> entry : vary.entrySet()) {
+                JsonArray range = entry.getValue().asJsonArray();
+                long min = range.getJsonNumber(0).longValue();
+                long max = range.getJsonNumber(1).longValue();
+                inputData.add(entry.getKey(), min + (long) (random.nextDouble() * (max - min + 1)));
+            }
+            return Json.createObjectBuilder(body).add("inputData", inputData).build().toString();
+        }
+    }
+
+    private record Stage(int rate, double throughput, Latency overall, Latency[] byPayload, long dropped) {
+
+        static Stage of(int rate, double elapsedSeconds, long[] latencies, int[] payloads, boolean[] failed,
+                        long dropped, int payloadCount) {
+            List<List<Long>> samplesByPayload = new ArrayList<>(payloadCount);
+            long[] errorsByPayload = new long[payloadCount];
+            for (int i = 0; i < payloadCount; i++) {
+                samplesByPayload.add(new ArrayList<>());
+            }
+            long[] all = new long[latencies.length];
+            int size = 0;
+            long errors = 0;
+            for (int i = 0; i < latencies.length; i++) {
+                if (latencies[i] < 0) {
+                    continue;
+                }
+                all[size++] = latencies[i];
+                samplesByPayload.get(payloads[i]).add(latencies[i]);
+                if (failed[i]) {
+                    errors++;
+                    errorsByPayload[payloads[i]]++;
+                }
+            }
+            long completed = size - errors;
+            Latency[] byPayload = new Latency[payloadCount];
+            for (int i = 0; i < payloadCount; i++) {
+                byPayload[i] = Latency.of(samplesByPayload.get(i).stream().mapToLong(Long::longValue).toArray(),
+                        errorsByPayload[i]);
+            }
+            return new Stage(rate, completed / elapsedSeconds, Latency.of(Arrays.copyOf(all, size), errors),
+                    byPayload, dropped);
+        }
+    }
+
+    private record Latency(long count, double p50Ms, double p99Ms, double p999Ms, double maxMs, long errors) {
+
+        static Latency of(long[] nanos, long errors) {
+            Arrays.sort(nanos);
+            return new Latency(nanos.length, percentile(nanos, 0.50), percentile(nanos, 0.99), percentile(nanos, 0.999),
+                    nanos.length == 0 ? 0 : nanos[nanos.length - 1] / 1e6, errors);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+
+        JsonObjectBuilder toJson() {
+            return Json.createObjectBuilder()
+                    .add("count", count)
+                    .add("p50Ms", round(p50Ms))
+                    .add("p99Ms", round(p99Ms))
+                    .add("p999Ms", round(p999Ms))
+                    .add("maxMs", round(maxMs))
+                    .add("errors", errors);
+        }
+    }
+
+    static double number(JsonObject object, String name) {
+        JsonNumber number = object.getJsonNumber(name);
+        return number == null ? Double.NaN : number.doubleValue();
+    }
+}
@@ -0,0 +1,98 @@
+package mn.dmn;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two {@link DmnLoadTest} reports stage by stage and fails when the
+ * {@code current} build is worse than the {@code baseline} by more than
+ * {@code maxRegression} percent: lower throughput, or higher p99 or p999 latency.
+ * An optional {@code sloP99Ms} also fails any stage whose p99 exceeds it.
+ *
+ * <p>System properties: {@code baseline}, {@code current}, {@code maxRegression}
+ * (default 10) and {@code sloP99Ms}. Exits with status 1 on a regression, so it can
+ * gate a pipeline.</p>
+ */
+public final class DmnLoadTestComparison {
+
+    private DmnLoadTestComparison() {}
+
+    public static void main(String[] args) throws IOException {
+        Path resultDir = Paths.get(System.getProperty("loadtest.result.dir", "target/loadtest"));
+        JsonObject baseline = read(resolve(resultDir, System.getProperty("baseline", "baseline")));
+        JsonObject current = read(resolve(resultDir, System.getProperty("current", "current")));
+        double maxRegression = Double.parseDouble(System.getProperty("maxRegression", "10")) / 100;
+        double sloP99Ms = Double.parseDouble(System.getProperty("sloP99Ms", "0"));
+
+        Map<Integer, JsonObject> baselineStages = new HashMap<>();
+        for (JsonObject stage : baseline.getJsonArray("stages").getValuesAs(JsonObject.class)) {
+            baselineStages.put(stage.getInt("rate"), stage);
+        }
+
+        System.out.printf("%s vs %s%n", current.getString("label"), baseline.getString("label"));
+        System.out.printf("%8s %-10s %12s %12s %9s%n", "rate", "metric", "baseline", "current", "change");
+        boolean failed = false;
+        for (JsonObject stage : current.getJsonArray("stages").getValuesAs(JsonObject.class)) {
+            int rate = stage.getInt("rate");
+            JsonObject latency = stage.getJsonObject("latency");
+            if (sloP99Ms > 0 && DmnLoadTest.number(latency, "p99Ms") > sloP99Ms) {
+                System.out.printf(Locale.ROOT, "%8d p99 %.2f ms exceeds the SLO of %.2f ms%n", rate,
+                        DmnLoadTest.number(latency, "p99Ms"), sloP99Ms);
+                failed = true;
+            }
+            JsonObject before = baselineStages.get(rate);
+            if (before == null) {
+                System.out.printf("%8d not in the baseline%n", rate);
+                continue;
+            }
+            JsonObject beforeLatency = before.getJsonObject("latency");
+            failed |= compare(rate, "req/s", DmnLoadTest.number(before, "throughput"),
+                    DmnLoadTest.number(stage, "throughput"), false, maxRegression);
+            failed |= compare(rate, "p50 ms", DmnLoadTest.number(beforeLatency, "p50Ms"),
+                    DmnLoadTest.number(latency, "p50Ms"), true, Double.POSITIVE_INFINITY);
+            failed |= compare(rate, "p99 ms", DmnLoadTest.number(beforeLatency, "p99Ms"),
+                    DmnLoadTest.number(latency, "p99Ms"), true, maxRegression);
+            failed |= compare(rate, "p999 ms", DmnLoadTest.number(beforeLatency, "p999Ms"),
+                    DmnLoadTest.number(latency, "p999Ms"), true, maxRegression);
+        }
+
+        if (failed) {
+            System.out.println("Regression against the baseline");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Prints one metric and whether it regressed by more than {@code maxRegression}.
+     */
+    private static boolean compare(int rate, String metric, double baseline, double current, boolean lowerIsBetter,
+                                   double maxRegression) {
+        double change = baseline == 0 ? 0 : (current - baseline) / baseline;
+        double regression = lowerIsBetter ? change : -change;
+        boolean regressed = regression > maxRegression;
+        System.out.printf(Locale.ROOT, "%8d %-10s %12.2f %12.2f %+8.1f%%%s%n", rate, metric, baseline, current,
+                change * 100, regressed ? "  REGRESSION" : "");
+        return regressed;
+    }
+
+    private static Path resolve(Path resultDir, String report) {
+        Path path = Paths.get(report.endsWith(".json") ? report : report + ".json");
+        return path.isAbsolute() || Files.exists(path) ? path : resultDir.resolve(path);
+    }
+
+    private static JsonObject read(Path report) throws IOException {
+        try (Reader in = Files.newBufferedReader(report); JsonReader reader = Json.createReader(in)) {
+            return reader.readObject();
+        }
+    }
+}
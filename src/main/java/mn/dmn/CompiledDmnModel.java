@@ -0,0 +1,206 @@
+package mn.dmn;
+
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.ast.DMNNode;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.core.ast.DMNBaseNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A DMN file compiled into its own {@link DMNRuntime}, together with the
+ * fingerprint of the content it was compiled from. Instances are immutable and
+ * safe to share between concurrent evaluations.
+ */
+public final class CompiledDmnModel {
+
+    private static final AtomicLong COMPILATIONS = new AtomicLong();
+
+    private final String dmnFile;
+    private final String fingerprint;
+    private final DMNRuntime runtime;
+    private final DMNModel model;
+    private final long compileNanos;
+    private final Map<String, FastDecisionTable> fastDecisionTables;
+    private final DmnModelRegistry.FeelMode feelMode;
+    // Decision name -> every decision it requires, directly or transitively
+    private final Map<String, Set<String>> requiredDecisions;
+    // Decision name -> length of its longest chain of required decisions, 0 if it only needs inputs
+    private final Map<String, Integer> decisionDepths;
+    // Tells compilations of the same content apart, e.g. after a model it imports changed
+    private final long compilationId;
+
+    public CompiledDmnModel(String dmnFile, String fingerprint, DMNRuntime runtime, DMNModel model, long compileNanos,
+                            Map<String, FastDecisionTable> fastDecisionTables, DmnModelRegistry.FeelMode feelMode) {
+        this(dmnFile, fingerprint, runtime, model, compileNanos, fastDecisionTables, feelMode, requiredDecisions(model),
+                decisionDepths(model), COMPILATIONS.incrementAndGet());
+    }
+
+    private CompiledDmnModel(String dmnFile, String fingerprint, DMNRuntime runtime, DMNModel model, long compileNanos,
+                             Map<String, FastDecisionTable> fastDecisionTables, DmnModelRegistry.FeelMode feelMode,
+                             Map<String, Set<String>> requiredDecisions, Map<String, Integer> decisionDepths,
+                             long compilationId) {
+        this.dmnFile = dmnFile;
+        this.fingerprint = fingerprint;
+        this.runtime = runtime;
+        this.model = model;
+        this.compileNanos = compileNanos;
+        this.fastDecisionTables = Map.copyOf(fastDecisionTables);
+        this.feelMode = feelMode;
+        this.requiredDecisions = requiredDecisions;
+        this.decisionDepths = decisionDepths;
+        this.compilationId = compilationId;
+    }
+
+    public String getDmnFile() {
+        return dmnFile;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public DMNRuntime getRuntime() {
+        return runtime;
+    }
+
+    public DMNModel getModel() {
+        return model;
+    }
+
+    public long getCompileNanos() {
+        return compileNanos;
+    }
+
+    public DmnModelRegistry.FeelMode getFeelMode() {
+        return feelMode;
+    }
+
+    /**
+     * Identifies the compilation that produced this model; copies made with
+     * {@link #withDmnFile(String)} keep it.
+     */
+    public long getCompilationId() {
+        return compilationId;
+    }
+
+    /**
+     * The same compiled model under another {@code dmnFile} name.
+     */
+    CompiledDmnModel withDmnFile(String dmnFile) {
+        return new CompiledDmnModel(dmnFile, fingerprint, runtime, model, compileNanos, fastDecisionTables, feelMode, requiredDecisions, decisionDepths,
+                compilationId);
+    }
+
+    /**
+     * The primitive matcher for the named decision, or {@code null} if its table
+     * does not qualify for the fast path.
+     */
+    public FastDecisionTable getFastDecisionTable(String decisionName) {
+        return fastDecisionTables.get(decisionName);
+    }
+
+    public boolean hasDecision(String decisionName) {
+        return requiredDecisions.containsKey(decisionName);
+    }
+
+    /**
+     * The decisions to evaluate for {@code decisionNames}: the requested ones that no other
+     * requested decision requires, since evaluating a decision evaluates what it requires.
+     * Every name must be a decision of this model.
+     */
+    String[] rootDecisions(List<String> decisionNames) {
+        Set<String> requested = new LinkedHashSet<>(decisionNames);
+        List<String> roots = new ArrayList<>(requested.size());
+        for (String name : requested) {
+            boolean required = false;
+            for (String other : requested) {
+                if (!other.equals(name) && requiredDecisions.get(other).contains(name)) {
+                    required = true;
+                    break;
+                }
+            }
+            if (!required) {
+                roots.add(name);
+            }
+        }
+        return roots.toArray(String[]::new);
+    }
+
+    /**
+     * {@code decisionNames} and every decision they require, grouped into levels that
+     * only require decisions of earlier levels; the decisions within a level are
+     * independent of each other. Every name must be a decision of this model.
+     */
+    List<List<String>> evaluationLevels(List<String> decisionNames) {
+        Set<String> decisions = new LinkedHashSet<>();
+        for (String name : decisionNames) {
+            decisions.addAll(requiredDecisions.get(name));
+            decisions.add(name);
+        }
+        List<List<String>> levels = new ArrayList<>();
+        for (String decision : decisions) {
+            int depth = decisionDepths.get(decision);
+            while (levels.size() <= depth) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(depth).add(decision);
+        }
+        // Depths count chains of the whole model; a subset can leave some levels empty
+        levels.removeIf(List::isEmpty);
+        return levels;
+    }
+
+    private static Map<String, Set<String>> requiredDecisions(DMNModel model) {
+        Map<String, Set<String>> required = new HashMap<>();
+        for (DecisionNode decision : model.getDecisions()) {
+            Set<String> closure = new HashSet<>();
+            collectRequiredDecisions(decision, closure);
+            required.put(decision.getName(), Set.copyOf(closure));
+        }
+        return Map.copyOf(required);
+    }
+
+    private static Map<String, Integer> decisionDepths(DMNModel model) {
+        Map<String, Integer> depths = new HashMap<>();
+        for (DecisionNode decision : model.getDecisions()) {
+            depth(decision, depths);
+        }
+        return Map.copyOf(depths);
+    }
+
+    private static int depth(DecisionNode decision, Map<String, Integer> depths) {
+        Integer known = depths.get(decision.getName());
+        if (known != null) {
+            return known;
+        }
+        int depth = 0;
+        if (decision instanceof DMNBaseNode baseNode) {
+            for (DMNNode dependency : baseNode.getDependencies().values()) {
+                if (dependency instanceof DecisionNode required) {
+                    depth = Math.max(depth, depth(required, depths) + 1);
+                }
+            }
+        }
+        depths.put(decision.getName(), depth);
+        return depth;
+    }
+
+    private static void collectRequiredDecisions(DMNNode node, Set<String> closure) {
+        if (node instanceof DMNBaseNode baseNode) {
+            for (DMNNode dependency : baseNode.getDependencies().values()) {
+                if (dependency instanceof DecisionNode decision && closure.add(decision.getName())) {
+                    collectRequiredDecisions(decision, closure);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package mn.dmn;
+
+import org.kie.dmn.api.marshalling.DMNExtensionRegister;
+import org.kie.dmn.core.compiler.DMNProfile;
+import org.kie.dmn.core.compiler.DRGElementCompiler;
+import org.kie.dmn.feel.parser.feel11.profiles.DoCompileFEELProfile;
+
+import java.util.List;
+
+/**
+ * DMN profile that makes the KIE compiler translate FEEL expressions and decision
+ * tables into Java classes instead of interpreting them, selected with
+ * {@code dmn.feel.mode=compiled}. It adds no functions, extensions or element
+ * compilers of its own.
+ */
+public class CompiledFeelProfile extends DoCompileFEELProfile implements DMNProfile {
+
+    @Override
+    public List<DMNExtensionRegister> getExtensionRegisters() {
+        return List.of();
+    }
+
+    @Override
+    public List<DRGElementCompiler> getDRGElementCompilers() {
+        return List.of();
+    }
+}
@@ -0,0 +1,219 @@
+package mn.dmn;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local directory that keeps models deployed through {@link DmnModelStore} across
+ * restarts: the content of every version, keyed by its SHA-256 fingerprint, and the
+ * version index of each model id.
+ *
+ * <p>A kjar or a serialized {@code DMNModel} only carries the DMN XML and is
+ * recompiled when loaded, so the store keeps the content itself and restored
+ * versions are compiled again; it keeps deployments, but does not shorten a
+ * restart. Files are written atomically and re-fingerprinted when read, so a
+ * truncated or edited artifact is ignored.</p>
+ *
+ * <p>Models read from files or the classpath are not stored; their source is already
+ * on disk. Content no stored version refers to any more is deleted by
+ * {@link #retainOnly(Set)}. The store is disabled unless {@code dmn.artifacts.dir} is set.</p>
+ */
+@ApplicationScoped
+public class DmnArtifactStore {
+
+    private static final Logger LOG = Logger.getLogger(DmnArtifactStore.class);
+
+    private static final String ARTIFACT_EXTENSION = ".dmn";
+    private static final String DEPLOYMENTS_DIR = "deployments";
+    private static final String DEPLOYMENT_EXTENSION = ".properties";
+
+    @ConfigProperty(name = "dmn.artifacts.dir")
+    Optional<String> artifactsDir;
+
+    private Path dir;
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder removals = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        dir = artifactsDir.map(path -> Paths.get(path).toAbsolutePath().normalize()).orElse(null);
+        if (dir != null) {
+            try {
+                Files.createDirectories(dir.resolve(DEPLOYMENTS_DIR));
+            } catch (IOException e) {
+                LOG.warnf(e, "Unable to create DMN artifact directory %s, artifacts are disabled", dir);
+                dir = null;
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return dir != null;
+    }
+
+    /**
+     * The stored content with the given fingerprint, if present and intact.
+     */
+    public Optional<byte[]> load(String fingerprint) {
+        if (dir == null) {
+            return Optional.empty();
+        }
+        Path artifact = dir.resolve(fingerprint + ARTIFACT_EXTENSION);
+        if (!Files.isRegularFile(artifact)) {
+            return Optional.empty();
+        }
+        try {
+            byte[] content = Files.readAllBytes(artifact);
+            if (!DmnModelRegistry.fingerprint(content).equals(fingerprint)) {
+                LOG.warnf("Ignoring DMN artifact %s, its content does not match its fingerprint", artifact);
+                return Optional.empty();
+            }
+            loads.increment();
+            return Optional.of(content);
+        } catch (IOException e) {
+            LOG.warnf(e, "Unable to read DMN artifact %s", artifact);
+            return Optional.empty();
+        }
+    }
+
+    public boolean contains(String fingerprint) {
+        return dir != null && Files.isRegularFile(dir.resolve(fingerprint + ARTIFACT_EXTENSION));
+    }
+
+    /**
+     * Stores the content of a deployed version; failures are logged, the model stays usable.
+     */
+    public void store(String fingerprint, byte[] content) {
+        if (dir == null || contains(fingerprint)) {
+            return;
+        }
+        try {
+            writeAtomically(dir.resolve(fingerprint + ARTIFACT_EXTENSION), out -> out.write(content));
+            stores.increment();
+        } catch (IOException e) {
+            LOG.warnf(e, "Unable to store DMN artifact %s", fingerprint);
+        }
+    }
+
+    /**
+     * Deletes every artifact whose fingerprint is not in {@code fingerprints}.
+     */
+    void retainOnly(Set<String> fingerprints) {
+        if (dir == null) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + ARTIFACT_EXTENSION)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (!fingerprints.contains(name.substring(0, name.length() - ARTIFACT_EXTENSION.length()))) {
+                    Files.deleteIfExists(file);
+                    removals.increment();
+                }
+            }
+        } catch (IOException e) {
+            LOG.warnf(e, "Unable to remove unused DMN artifacts from %s", dir);
+        }
+    }
+
+    /**
+     * The version index of a deployed model, or {@code null} if none is stored.
+     */
+    Properties loadDeployment(String id) {
+        Path file = dir.resolve(DEPLOYMENTS_DIR).resolve(id + DEPLOYMENT_EXTENSION);
+        try (InputStream in = Files.newInputStream(file)) {
+            Properties properties = new Properties();
+            properties.load(in);
+            return properties;
+        } catch (IOException e) {
+            LOG.warnf(e, "Unable to read deployment index %s", file);
+            return null;
+        }
+    }
+
+    List<String> deploymentIds() throws IOException {
+        List<String> ids = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir.resolve(DEPLOYMENTS_DIR), "*" + DEPLOYMENT_EXTENSION)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                ids.add(name.substring(0, name.length() - DEPLOYMENT_EXTENSION.length()));
+            }
+        }
+        return ids;
+    }
+
+    void storeDeployment(String id, Properties index) {
+        if (dir == null) {
+            return;
+        }
+        try {
+            writeAtomically(dir.resolve(DEPLOYMENTS_DIR).resolve(id + DEPLOYMENT_EXTENSION),
+                    out -> index.store(out, "Deployed DMN model " + id));
+        } catch (IOException e) {
+            LOG.warnf(e, "Unable to store deployment index of %s", id);
+        }
+    }
+
+    void deleteDeployment(String id) {
+        if (dir == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(dir.resolve(DEPLOYMENTS_DIR).resolve(id + DEPLOYMENT_EXTENSION));
+        } catch (IOException e) {
+            LOG.warnf(e, "Unable to delete deployment index of %s", id);
+        }
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    public long getRemovals() {
+        return removals.sum();
+    }
+
+    private static void writeAtomically(Path target, Writer writer) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.write(out);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(OutputStream out) throws IOException;
+    }
+}
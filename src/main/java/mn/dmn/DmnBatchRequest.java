@@ -0,0 +1,80 @@
+package mn.dmn;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.util.List;
+import java.util.Map;
+
+public class DmnBatchRequest {
+
+    @JsonbProperty("dmnFile")
+    private String dmnFile;
+
+    @JsonbProperty("namespace")
+    private String namespace;
+
+    @JsonbProperty("modelName")
+    private String modelName;
+
+    @JsonbProperty("decisionName")
+    private String decisionName;
+
+    @JsonbProperty("inputData")
+    private List<Map<String, Object>> inputData;
+
+    public DmnBatchRequest() {}
+
+    public DmnBatchRequest(String dmnFile, String decisionName, List<Map<String, Object>> inputData) {
+        this.dmnFile = dmnFile;
+        this.decisionName = decisionName;
+        this.inputData = inputData;
+    }
+
+    public String getDmnFile() {
+        return dmnFile;
+    }
+
+    public void setDmnFile(String dmnFile) {
+        this.dmnFile = dmnFile;
+    }
+
+    public String getDecisionName() {
+        return decisionName;
+    }
+
+    public void setDecisionName(String decisionName) {
+        this.decisionName = decisionName;
+    }
+
+    public List<Map<String, Object>> getInputData() {
+        return inputData;
+    }
+
+    public void setInputData(List<Map<String, Object>> inputData) {
+        this.inputData = inputData;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public void setNamespace(String namespace) {
+        this.namespace = namespace;
+    }
+
+    public String getModelName() {
+        return modelName;
+    }
+
+    public void setModelName(String modelName) {
+        this.modelName = modelName;
+    }
+
+    /**
+     * Whether the request names its model by DMN namespace and name instead of by file.
+     */
+    public boolean hasModelName() {
+        return (dmnFile == null || dmnFile.trim().isEmpty())
+                && namespace != null && !namespace.isBlank() && modelName != null && !modelName.isBlank();
+    }
+}
@@ -0,0 +1,55 @@
+package mn.dmn;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.util.List;
+
+public class DmnBatchResponse {
+
+    @JsonbProperty("results")
+    private List<DmnResponse> results;
+
+    @JsonbProperty("success")
+    private boolean success;
+
+    @JsonbProperty("error")
+    private String error;
+
+    public DmnBatchResponse() {}
+
+    public DmnBatchResponse(List<DmnResponse> results) {
+        this.results = results;
+        this.success = true;
+        this.error = null;
+    }
+
+    public DmnBatchResponse(String error) {
+        this.results = List.of();
+        this.success = false;
+        this.error = error;
+    }
+
+    public List<DmnResponse> getResults() {
+        return results;
+    }
+
+    public void setResults(List<DmnResponse> results) {
+        this.results = results;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,33 @@
+package mn.dmn;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Writes {@link DmnBatchResponse} with the encoder of {@link DmnResponseWriter}.
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class DmnBatchResponseWriter implements MessageBodyWriter<DmnBatchResponse> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == DmnBatchResponse.class;
+    }
+
+    @Override
+    public void writeTo(DmnBatchResponse batch, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        DmnResponseWriter.write(batch, entityStream);
+    }
+}
@@ -0,0 +1,95 @@
+package mn.dmn;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+public class DmnBulkheadStats {
+
+    @JsonbProperty("dmnFile")
+    private String dmnFile;
+
+    @JsonbProperty("maxConcurrent")
+    private int maxConcurrent;
+
+    @JsonbProperty("queueSize")
+    private int queueSize;
+
+    @JsonbProperty("active")
+    private int active;
+
+    @JsonbProperty("queued")
+    private int queued;
+
+    @JsonbProperty("accepted")
+    private long accepted;
+
+    @JsonbProperty("rejected")
+    private long rejected;
+
+    public DmnBulkheadStats() {}
+
+    public DmnBulkheadStats(String dmnFile, int maxConcurrent, int queueSize, int active, int queued, long accepted, long rejected) {
+        this.dmnFile = dmnFile;
+        this.maxConcurrent = maxConcurrent;
+        this.queueSize = queueSize;
+        this.active = active;
+        this.queued = queued;
+        this.accepted = accepted;
+        this.rejected = rejected;
+    }
+
+    public String getDmnFile() {
+        return dmnFile;
+    }
+
+    public void setDmnFile(String dmnFile) {
+        this.dmnFile = dmnFile;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public void setActive(int active) {
+        this.active = active;
+    }
+
+    public int getQueued() {
+        return queued;
+    }
+
+    public void setQueued(int queued) {
+        this.queued = queued;
+    }
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(long accepted) {
+        this.accepted = accepted;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+}
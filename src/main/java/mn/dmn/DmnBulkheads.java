@@ -0,0 +1,224 @@
+package mn.dmn;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Per model concurrency limits, so a burst against one expensive DMN model only
+ * queues requests for that model instead of occupying every request thread.
+ *
+ * <p>Each {@code dmnFile} gets its own bulkhead: at most {@code max-concurrent}
+ * evaluations run at once on the {@link DmnEvaluationExecutor}, up to
+ * {@code queue-size} more wait in a queue without holding a thread, and anything
+ * beyond that is rejected with a {@link RejectedExecutionException}. Limits can be
+ * set per model with {@code dmn.bulkhead.max-concurrent.<dmnFile>} and
+ * {@code dmn.bulkhead.queue-size.<dmnFile>}.</p>
+ *
+ * <p>Requests only get the bulkhead of a model the {@link DmnModelRegistry} has loaded
+ * ({@link #keyFor}), keyed by the file the model was loaded from, so requests by file
+ * and by model name share it. Requests for anything not loaded yet, including the one
+ * that loads a new model and names that do not exist, share the {@code (other)}
+ * bulkhead. A deployed model's bulkhead is removed with the model.</p>
+ */
+@ApplicationScoped
+public class DmnBulkheads {
+
+    // Shared by requests for models that are not loaded, and by every model after dmn.bulkhead.max-models
+    static final String OVERFLOW = "(other)";
+
+    @Inject
+    DmnEvaluationExecutor evaluationExecutor;
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    Config config;
+
+    @ConfigProperty(name = "dmn.bulkhead.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "dmn.bulkhead.max-concurrent", defaultValue = "32")
+    int defaultMaxConcurrent;
+
+    @ConfigProperty(name = "dmn.bulkhead.queue-size", defaultValue = "256")
+    int defaultQueueSize;
+
+    @ConfigProperty(name = "dmn.bulkhead.max-models", defaultValue = "1000")
+    int maxModels;
+
+    private final ConcurrentMap<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * Runs {@code task} within the bulkhead of {@code dmnFile}. The returned stage
+     * fails with a {@link RejectedExecutionException} when the bulkhead is full.
+     */
+    public <T> CompletionStage<T> submit(String dmnFile, Supplier<T> task) {
+        if (!enabled) {
+            return evaluationExecutor.submit(task);
+        }
+        return bulkhead(dmnFile).submit(task);
+    }
+
+    /**
+     * The bulkhead key of a request by {@code dmnFile}, or by {@code namespace} and
+     * {@code modelName} without a file: the file of the loaded model it resolves to,
+     * or {@link #OVERFLOW} if no such model is loaded.
+     */
+    public String keyFor(String dmnFile, String namespace, String modelName) {
+        if (dmnFile != null && !dmnFile.isBlank()) {
+            return modelRegistry.isLoaded(dmnFile) ? dmnFile : OVERFLOW;
+        }
+        CompiledDmnModel model = namespace == null || modelName == null ? null : modelRegistry.getByName(namespace, modelName);
+        return model != null ? model.getDmnFile() : OVERFLOW;
+    }
+
+    /**
+     * Drops the bulkhead of a model that was removed; evaluations already in it finish normally.
+     */
+    public void remove(String dmnFile) {
+        Bulkhead bulkhead = bulkheads.remove(dmnFile);
+        if (bulkhead != null) {
+            bulkhead.meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    private Bulkhead bulkhead(String dmnFile) {
+        Bulkhead bulkhead = bulkheads.get(dmnFile);
+        if (bulkhead != null) {
+            return bulkhead;
+        }
+        String key = bulkheads.size() < maxModels ? dmnFile : OVERFLOW;
+        return bulkheads.computeIfAbsent(key, this::create);
+    }
+
+    private Bulkhead create(String dmnFile) {
+        int maxConcurrent = config.getOptionalValue("dmn.bulkhead.max-concurrent." + dmnFile, Integer.class).orElse(defaultMaxConcurrent);
+        int queueSize = config.getOptionalValue("dmn.bulkhead.queue-size." + dmnFile, Integer.class).orElse(defaultQueueSize);
+        Bulkhead bulkhead = new Bulkhead(dmnFile, maxConcurrent, queueSize);
+
+        bulkhead.meters.add(Gauge.builder("dmn.bulkhead.active", bulkhead, Bulkhead::active)
+                .description("Evaluations running in the bulkhead of a DMN model")
+                .tag("dmnFile", dmnFile)
+                .register(meterRegistry));
+        bulkhead.meters.add(Gauge.builder("dmn.bulkhead.queued", bulkhead, Bulkhead::queued)
+                .description("Evaluations waiting in the bulkhead of a DMN model")
+                .tag("dmnFile", dmnFile)
+                .register(meterRegistry));
+        bulkhead.rejectedCounter = Counter.builder("dmn.bulkhead.rejected")
+                .description("Evaluations rejected because the bulkhead of a DMN model was full")
+                .tag("dmnFile", dmnFile)
+                .register(meterRegistry);
+        bulkhead.meters.add(bulkhead.rejectedCounter);
+        return bulkhead;
+    }
+
+    public List<DmnBulkheadStats> getStats() {
+        return bulkheads.values().stream()
+                .map(Bulkhead::toStats)
+                .sorted(Comparator.comparing(DmnBulkheadStats::getDmnFile))
+                .toList();
+    }
+
+    private final class Bulkhead {
+
+        final String dmnFile;
+        final int maxConcurrent;
+        final int queueSize;
+        final Queue<Runnable> waiting = new ArrayDeque<>();
+        final LongAdder accepted = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final List<Meter> meters = new ArrayList<>(3);
+        Counter rejectedCounter;
+
+        // Guarded by this
+        int running;
+
+        Bulkhead(String dmnFile, int maxConcurrent, int queueSize) {
+            this.dmnFile = dmnFile;
+            this.maxConcurrent = maxConcurrent;
+            this.queueSize = queueSize;
+        }
+
+        <T> CompletionStage<T> submit(Supplier<T> task) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            Runnable run = () -> evaluationExecutor.submit(task).whenComplete((value, failure) -> {
+                release();
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(value);
+                }
+            });
+
+            boolean start;
+            synchronized (this) {
+                if (running < maxConcurrent) {
+                    running++;
+                    start = true;
+                } else if (waiting.size() < queueSize) {
+                    waiting.add(run);
+                    start = false;
+                } else {
+                    rejected.increment();
+                    rejectedCounter.increment();
+                    return CompletableFuture.failedFuture(new RejectedExecutionException(
+                            "Too many concurrent evaluations of " + dmnFile + ", try again later"));
+                }
+            }
+            accepted.increment();
+            if (start) {
+                run.run();
+            }
+            return result;
+        }
+
+        private void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    running--;
+                }
+            }
+            // The finished evaluation's slot passes straight to the next queued one
+            if (next != null) {
+                next.run();
+            }
+        }
+
+        synchronized int active() {
+            return running;
+        }
+
+        synchronized int queued() {
+            return waiting.size();
+        }
+
+        DmnBulkheadStats toStats() {
+            return new DmnBulkheadStats(dmnFile, maxConcurrent, queueSize, active(), queued(), accepted.sum(), rejected.sum());
+        }
+    }
+}
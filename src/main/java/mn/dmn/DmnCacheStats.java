@@ -0,0 +1,95 @@
+package mn.dmn;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+public class DmnCacheStats {
+
+    @JsonbProperty("enabled")
+    private boolean enabled;
+
+    @JsonbProperty("size")
+    private long size;
+
+    @JsonbProperty("hits")
+    private long hits;
+
+    @JsonbProperty("misses")
+    private long misses;
+
+    @JsonbProperty("hitRatio")
+    private double hitRatio;
+
+    @JsonbProperty("evictions")
+    private long evictions;
+
+    @JsonbProperty("bypassed")
+    private long bypassed;
+
+    public DmnCacheStats() {}
+
+    public DmnCacheStats(boolean enabled, long size, long hits, long misses, double hitRatio, long evictions, long bypassed) {
+        this.enabled = enabled;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRatio = hitRatio;
+        this.evictions = evictions;
+        this.bypassed = bypassed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
+    public double getHitRatio() {
+        return hitRatio;
+    }
+
+    public void setHitRatio(double hitRatio) {
+        this.hitRatio = hitRatio;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public void setEvictions(long evictions) {
+        this.evictions = evictions;
+    }
+
+    public long getBypassed() {
+        return bypassed;
+    }
+
+    public void setBypassed(long bypassed) {
+        this.bypassed = bypassed;
+    }
+}
@@ -0,0 +1,67 @@
+package mn.dmn;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.model.api.DecisionTable;
+
+import java.util.Collection;
+
+/**
+ * JFR event for the compilation of DMN content by {@link DmnModelRegistry}, so the
+ * allocation and CPU spikes of a reload or deployment show up against the file
+ * that caused them.
+ *
+ * <p>A group of models compiled together with shared imports is one event, with
+ * the files separated by commas and the counts summed over the group.</p>
+ */
+@Name(DmnCompilationEvent.NAME)
+@Label("DMN Compilation")
+@Category("DMN")
+@Description("Compilation of DMN content into a runtime")
+@StackTrace(false)
+class DmnCompilationEvent extends Event {
+
+    static final String NAME = "mn.dmn.DmnCompilation";
+
+    @Label("DMN File")
+    String dmnFile;
+
+    @Label("FEEL Mode")
+    String feelMode;
+
+    @Label("Decisions")
+    int decisions;
+
+    @Label("Decision Table Rules")
+    int rules;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Ends the event and commits it if a recording wants it; {@code models} is empty when the compilation failed.
+     */
+    void complete(String dmnFile, DmnModelRegistry.FeelMode feelMode, Collection<DMNModel> models, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.dmnFile = dmnFile;
+            this.feelMode = feelMode.name();
+            this.success = success;
+            for (DMNModel model : models) {
+                for (DecisionNode decision : model.getDecisions()) {
+                    decisions++;
+                    if (decision.getDecision() != null && decision.getDecision().getExpression() instanceof DecisionTable table) {
+                        rules += table.getRule().size();
+                    }
+                }
+            }
+            commit();
+        }
+    }
+}
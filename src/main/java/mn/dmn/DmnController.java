@@ -1,39 +1,192 @@
 package mn.dmn;
 
+import io.smallrye.common.annotation.Blocking;
+import io.vertx.ext.web.RoutingContext;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
 @Path("/dmn")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 public class DmnController {
 
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    /** Request header; {@code bypass} evaluates without reading or filling the result cache. */
+    static final String CACHE_HEADER = "X-Dmn-Cache";
+
     @Inject
     DmnService dmnService;
 
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @Inject
+    DmnModelPreloader modelPreloader;
+
+    @Inject
+    DmnModelStore modelStore;
+
+    @Inject
+    DmnStreamScorer streamScorer;
+
+    @Inject
+    DmnResultCache resultCache;
+
+    @Inject
+    DmnMetrics metrics;
+
+    @Inject
+    DmnBulkheads bulkheads;
+
+    @Inject
+    DmnPinningMonitor pinningMonitor;
+
+    @Inject
+    DmnServerTiming serverTiming;
+
+    @ConfigProperty(name = "dmn.batch.max-size", defaultValue = "10000")
+    int maxBatchSize;
+
+    @ConfigProperty(name = "dmn.stream.input-dir")
+    Optional<String> streamInputDir;
+
     @POST
     @Path("/evaluate")
-    public Response evaluateDecision(DmnRequest request) {
+    public CompletionStage<Response> evaluateDecision(DmnRequest request,
+                                                      @HeaderParam(CACHE_HEADER) String cacheMode,
+                                                      @QueryParam("includeReason") @DefaultValue("true") boolean includeReason,
+                                                      @QueryParam("includeValue") @DefaultValue("false") boolean includeValue,
+                                                      @Context RoutingContext routingContext) {
+        DmnTimings timings = serverTiming.begin(routingContext);
+
+        // Validate request
+        if (request == null) {
+            metrics.recordError(DmnMetrics.CAUSE_INVALID_REQUEST);
+            return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new DmnResponse("Request body is required"))
+                    .build());
+        }
+
+        if ((request.getDmnFile() == null || request.getDmnFile().trim().isEmpty()) && !request.hasModelName()) {
+            metrics.recordError(DmnMetrics.CAUSE_INVALID_REQUEST);
+            return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new DmnResponse("DMN file path is required, or a model namespace and name"))
+                    .build());
+        }
+
+        // Model loading and evaluation block, so they run on a worker or virtual thread (dmn.execution.mode),
+        // limited per model by its bulkhead
+        AtomicInteger inFlight = metrics.inFlight("evaluate");
+        inFlight.incrementAndGet();
+        boolean bypassCache = isCacheBypass(cacheMode);
+        String bulkhead = bulkheads.keyFor(request.getDmnFile(), request.getNamespace(), request.getModelName());
+        long queued = System.nanoTime();
+        return bulkheads.submit(bulkhead, () -> evaluate(request, bypassCache, includeReason, includeValue, timings, queued))
+                .exceptionally(failure -> rejected(metrics, failure, DmnResponse::new))
+                .whenComplete((response, failure) -> inFlight.decrementAndGet());
+    }
+
+    private Response evaluate(DmnRequest request, boolean bypassCache, boolean includeReason, boolean includeValue,
+                              DmnTimings timings, long queued) {
+        if (timings != null) {
+            timings.record(DmnTimings.Phase.QUEUE, queued, System.nanoTime());
+            timings.bind();
+        }
         try {
-            // Validate request
-            if (request == null) {
-                return Response.status(Response.Status.BAD_REQUEST)
-                        .entity(new DmnResponse("Request body is required"))
-                        .build();
-            }
+            // Evaluate decision
+            DmnResponse response = dmnService.evaluateDecision(request, bypassCache);
 
-            if (request.getDmnFile() == null || request.getDmnFile().trim().isEmpty()) {
-                return Response.status(Response.Status.BAD_REQUEST)
-                        .entity(new DmnResponse("DMN file path is required"))
+            if (response.isSuccess()) {
+                return serverTiming.finish(timings, Response.ok(response.select(includeReason, includeValue))).build();
+            } else {
+                return serverTiming.finish(timings, Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                        .entity(response))
                         .build();
             }
 
-            // Evaluate decision
-            DmnResponse response = dmnService.evaluateDecision(request);
+        } catch (Exception e) {
+            return serverTiming.finish(timings, Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(new DmnResponse("Unexpected error: " + e.getMessage())))
+                    .build();
+        } finally {
+            DmnTimings.unbind();
+        }
+
+    }
+
+    @POST
+    @Path("/evaluate/batch")
+    @Blocking
+    public CompletionStage<Response> evaluateBatch(DmnBatchRequest request,
+                                                   @HeaderParam(CACHE_HEADER) String cacheMode,
+                                                   @QueryParam("includeReason") @DefaultValue("true") boolean includeReason,
+                                                   @QueryParam("includeValue") @DefaultValue("false") boolean includeValue) {
+        // Validate request
+        if (request == null) {
+            metrics.recordError(DmnMetrics.CAUSE_INVALID_REQUEST);
+            return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new DmnBatchResponse("Request body is required"))
+                    .build());
+        }
+
+        if ((request.getDmnFile() == null || request.getDmnFile().trim().isEmpty()) && !request.hasModelName()) {
+            metrics.recordError(DmnMetrics.CAUSE_INVALID_REQUEST);
+            return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new DmnBatchResponse("DMN file path is required, or a model namespace and name"))
+                    .build());
+        }
+
+        if (request.getInputData() != null && request.getInputData().size() > maxBatchSize) {
+            metrics.recordError(DmnMetrics.CAUSE_INVALID_REQUEST);
+            return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new DmnBatchResponse("Batch size " + request.getInputData().size()
+                            + " exceeds the maximum of " + maxBatchSize))
+                    .build());
+        }
+
+        // A batch takes one slot of its model's bulkhead; the large body was already parsed on this worker thread
+        AtomicInteger inFlight = metrics.inFlight("batch");
+        inFlight.incrementAndGet();
+        boolean bypassCache = isCacheBypass(cacheMode);
+        String bulkhead = bulkheads.keyFor(request.getDmnFile(), request.getNamespace(), request.getModelName());
+        return bulkheads.submit(bulkhead, () -> evaluateBatch(request, bypassCache, includeReason, includeValue))
+                .exceptionally(failure -> rejected(metrics, failure, DmnBatchResponse::new))
+                .whenComplete((response, failure) -> inFlight.decrementAndGet());
+    }
+
+    private Response evaluateBatch(DmnBatchRequest request, boolean bypassCache, boolean includeReason,
+                                   boolean includeValue) {
+        try {
+            // Evaluate all input sets against the same model
+            DmnBatchResponse response = dmnService.evaluateBatch(request, bypassCache);
 
             if (response.isSuccess()) {
+                if (!includeReason || includeValue) {
+                    response.setResults(response.getResults().stream()
+                            .map(result -> result.select(includeReason, includeValue))
+                            .toList());
+                }
                 return Response.ok(response).build();
             } else {
                 return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
@@ -43,15 +196,169 @@ public class DmnController {
 
         } catch (Exception e) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity(new DmnResponse("Unexpected error: " + e.getMessage()))
+                    .entity(new DmnBatchResponse("Unexpected error: " + e.getMessage()))
                     .build();
         }
+    }
+
+    /**
+     * 429 for evaluations a full bulkhead turned away, 500 for anything else that failed the stage.
+     * Shared with {@link DmnModelController}.
+     */
+    static Response rejected(DmnMetrics metrics, Throwable failure, Function<String, Object> errorEntity) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof RejectedExecutionException) {
+            metrics.recordError(DmnMetrics.CAUSE_REJECTED);
+            return Response.status(Response.Status.TOO_MANY_REQUESTS)
+                    .header("Retry-After", "1")
+                    .entity(errorEntity.apply(cause.getMessage()))
+                    .build();
+        }
+        return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity(errorEntity.apply("Unexpected error: " + cause.getMessage()))
+                .build();
+    }
+
+    @POST
+    @Path("/evaluate/stream")
+    @Consumes({APPLICATION_NDJSON, "text/csv", MediaType.TEXT_PLAIN, MediaType.APPLICATION_OCTET_STREAM})
+    @Produces(APPLICATION_NDJSON)
+    public Response evaluateStream(@QueryParam("dmnFile") String dmnFile,
+                                   @QueryParam("decisionName") String decisionName,
+                                   @QueryParam("format") String format,
+                                   @QueryParam("mapping") String mapping,
+                                   @HeaderParam("Content-Type") String contentType,
+                                   InputStream body) {
+        return stream(dmnFile, decisionName, format != null ? format : contentType, mapping, () -> body);
+    }
+
+    @POST
+    @Path("/evaluate/stream/file")
+    @Consumes(MediaType.WILDCARD)
+    @Produces(APPLICATION_NDJSON)
+    public Response evaluateStreamFile(@QueryParam("dmnFile") String dmnFile,
+                                       @QueryParam("decisionName") String decisionName,
+                                       @QueryParam("format") String format,
+                                       @QueryParam("mapping") String mapping,
+                                       @QueryParam("path") String path) {
+        // Local files are only readable from the configured input directory
+        if (streamInputDir.isEmpty()) {
+            return streamError(Response.Status.BAD_REQUEST, "Local file scoring is disabled, set dmn.stream.input-dir");
+        }
+        if (path == null || path.trim().isEmpty()) {
+            return streamError(Response.Status.BAD_REQUEST, "Input file path is required");
+        }
+        java.nio.file.Path inputDir = Paths.get(streamInputDir.get()).toAbsolutePath().normalize();
+        java.nio.file.Path inputFile = inputDir.resolve(path).normalize();
+        if (!inputFile.startsWith(inputDir) || !Files.isRegularFile(inputFile)) {
+            return streamError(Response.Status.NOT_FOUND, "Input file not found: " + path);
+        }
+        String detected = format != null ? format : inputFile.getFileName().toString();
+        return stream(dmnFile, decisionName, detected, mapping, () -> Files.newInputStream(inputFile));
+    }
+
+    @GET
+    @Path("/evaluate/stream/stats")
+    public Response streamStats() {
+        return Response.ok(streamScorer.getStats()).build();
+    }
+
+    private Response stream(String dmnFile, String decisionName, String format, String mapping, StreamSource source) {
+        if (dmnFile == null || dmnFile.trim().isEmpty()) {
+            return streamError(Response.Status.BAD_REQUEST, "DMN file path is required");
+        }
+        try {
+            // Fail with a proper status before the streamed response is committed
+            modelRegistry.get(dmnFile);
+        } catch (Exception e) {
+            return streamError(Response.Status.INTERNAL_SERVER_ERROR, "Error evaluating DMN: " + e.getMessage());
+        }
+
+        DmnStreamScorer.Format streamFormat = format != null && format.toLowerCase(Locale.ROOT).contains("csv")
+                ? DmnStreamScorer.Format.CSV
+                : DmnStreamScorer.Format.NDJSON;
+        Map<String, String> columnMapping = parseMapping(mapping);
+
+        StreamingOutput output = out -> {
+            try (InputStream in = source.open()) {
+                streamScorer.score(in, out, dmnFile, decisionName, streamFormat, columnMapping);
+            }
+        };
+        return Response.ok(output, APPLICATION_NDJSON).build();
+    }
+
+    static boolean isCacheBypass(String cacheMode) {
+        return cacheMode != null && "bypass".equalsIgnoreCase(cacheMode.trim());
+    }
+
+    private static Map<String, String> parseMapping(String mapping) {
+        Map<String, String> columnMapping = new HashMap<>();
+        if (mapping == null || mapping.isBlank()) {
+            return columnMapping;
+        }
+        // column:input pairs, e.g. "applicant_age:age,annual_income:income"
+        for (String pair : mapping.split(",")) {
+            String[] parts = pair.split(":", 2);
+            if (parts.length == 2 && !parts[0].isBlank() && !parts[1].isBlank()) {
+                columnMapping.put(parts[0].trim(), parts[1].trim());
+            }
+        }
+        return columnMapping;
+    }
+
+    private Response streamError(Response.Status status, String error) {
+        if (status == Response.Status.BAD_REQUEST) {
+            metrics.recordError(DmnMetrics.CAUSE_INVALID_REQUEST);
+        }
+        return Response.status(status)
+                .type(MediaType.APPLICATION_JSON)
+                .entity(new DmnResponse(error))
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface StreamSource {
+        InputStream open() throws IOException;
+    }
 
+    @GET
+    @Path("/bulkheads")
+    public Response bulkheadStats() {
+        return Response.ok(bulkheads.getStats()).build();
+    }
+
+    @GET
+    @Path("/execution/pinning")
+    public Response pinningReport() {
+        return Response.ok(pinningMonitor.getReport()).build();
+    }
+
+    @GET
+    @Path("/registry/stats")
+    public Response registryStats() {
+        return Response.ok(modelRegistry.getStats()).build();
+    }
+
+    @GET
+    @Path("/cache/stats")
+    public Response cacheStats() {
+        return Response.ok(resultCache.getStats()).build();
+    }
+
+    @GET
+    @Path("/fastpath/stats")
+    public Response fastPathStats() {
+        return Response.ok(dmnService.getFastPathStats()).build();
     }
 
     @GET
     @Path("/health")
     public Response health() {
-        return Response.ok("{\"status\": \"UP\", \"service\": \"DMN Evaluator\"}").build();
+        // Ready only once every discovered DMN model has been precompiled and deployed models are restored
+        boolean ready = modelPreloader.isReady() && modelStore.isRestored();
+        DmnHealthResponse health = new DmnHealthResponse(ready ? "UP" : "DOWN", "DMN Evaluator", modelPreloader.getStatuses());
+        return Response.status(ready ? Response.Status.OK : Response.Status.SERVICE_UNAVAILABLE)
+                .entity(health)
+                .build();
     }
 }
@@ -0,0 +1,54 @@
+package mn.dmn;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one evaluation by {@link DmnService}, so CPU samples, allocations,
+ * GC pauses and lock contention in a recording can be attributed to the decision
+ * model that was running.
+ *
+ * <p>Its duration covers the result cache lookup and the evaluation itself. The
+ * fields are only filled in when a recording has the event enabled and the
+ * evaluation passed its threshold; otherwise the event costs a few checks.</p>
+ */
+@Name(DmnEvaluationEvent.NAME)
+@Label("DMN Evaluation")
+@Category("DMN")
+@Description("Evaluation of a decision, a selection of decisions or all decisions of a DMN model")
+@StackTrace(false)
+class DmnEvaluationEvent extends Event {
+
+    static final String NAME = "mn.dmn.DmnEvaluation";
+
+    @Label("DMN File")
+    String dmnFile;
+
+    @Label("Model")
+    String model;
+
+    @Label("Decision")
+    @Description("The decision name, a comma separated selection, or \"all\"")
+    String decision;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Ends the event and commits it if a recording wants it.
+     */
+    void complete(CompiledDmnModel compiledModel, String decisionName, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.dmnFile = compiledModel.getDmnFile();
+            this.model = compiledModel.getModel().getName();
+            this.decision = DmnMetrics.decisionLabel(decisionName);
+            this.success = success;
+            commit();
+        }
+    }
+}
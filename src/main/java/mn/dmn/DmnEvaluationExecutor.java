@@ -0,0 +1,68 @@
+package mn.dmn;
+
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Runs evaluations requested over HTTP off the event loop, either on the Quarkus
+ * worker pool or on a virtual thread per evaluation.
+ *
+ * <p>With {@code dmn.execution.mode=virtual}, an evaluation blocked on file I/O or
+ * model compilation parks its virtual thread instead of holding one of the fixed
+ * number of worker threads. Sections of the KIE engine that block while holding a
+ * monitor pin the carrier thread; the {@link DmnPinningMonitor} reports where.</p>
+ */
+@ApplicationScoped
+public class DmnEvaluationExecutor {
+
+    private static final Logger LOG = Logger.getLogger(DmnEvaluationExecutor.class);
+
+    public enum Mode {
+        WORKER,
+        VIRTUAL
+    }
+
+    @ConfigProperty(name = "dmn.execution.mode", defaultValue = "worker")
+    Mode mode;
+
+    private Executor executor;
+    private ExecutorService virtualThreads;
+
+    @PostConstruct
+    void init() {
+        if (mode == Mode.VIRTUAL) {
+            virtualThreads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dmn-evaluation-", 0).factory());
+            executor = virtualThreads;
+        } else {
+            // In Quarkus this is the same pool blocking endpoints run on
+            executor = Infrastructure.getDefaultWorkerPool();
+        }
+        LOG.infof("DMN evaluations run on %s threads", mode == Mode.VIRTUAL ? "virtual" : "worker");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (virtualThreads != null) {
+            virtualThreads.shutdown();
+        }
+    }
+
+    public <T> CompletionStage<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+}
@@ -0,0 +1,59 @@
+package mn.dmn;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+public class DmnFastPathStats {
+
+    @JsonbProperty("mode")
+    private String mode;
+
+    @JsonbProperty("hits")
+    private long hits;
+
+    @JsonbProperty("fallbacks")
+    private long fallbacks;
+
+    @JsonbProperty("mismatches")
+    private long mismatches;
+
+    public DmnFastPathStats() {}
+
+    public DmnFastPathStats(String mode, long hits, long fallbacks, long mismatches) {
+        this.mode = mode;
+        this.hits = hits;
+        this.fallbacks = fallbacks;
+        this.mismatches = mismatches;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getFallbacks() {
+        return fallbacks;
+    }
+
+    public void setFallbacks(long fallbacks) {
+        this.fallbacks = fallbacks;
+    }
+
+    public long getMismatches() {
+        return mismatches;
+    }
+
+    public void setMismatches(long mismatches) {
+        this.mismatches = mismatches;
+    }
+}
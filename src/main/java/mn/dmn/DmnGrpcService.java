@@ -0,0 +1,300 @@
+package mn.dmn;
+
+import io.grpc.Status;
+import io.quarkus.grpc.GrpcService;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import mn.dmn.grpc.BatchRequest;
+import mn.dmn.grpc.BatchResponse;
+import mn.dmn.grpc.DmnEvaluator;
+import mn.dmn.grpc.EvaluateRequest;
+import mn.dmn.grpc.EvaluateResponse;
+import mn.dmn.grpc.ListValue;
+import mn.dmn.grpc.MapValue;
+import mn.dmn.grpc.Value;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * gRPC counterpart of {@code POST /dmn/evaluate} and {@code /dmn/evaluate/batch}
+ * (see {@code src/main/proto/dmn.proto}), for internal callers that want a binary
+ * wire format and HTTP/2 multiplexing instead of JSON.
+ *
+ * <p>Requests are converted to {@link DmnRequest}/{@link DmnBatchRequest} and run
+ * through the same {@link DmnService} and per-model {@link DmnBulkheads} as the REST
+ * endpoints, and their responses carry the same fields, including the typed
+ * {@code value} of each decision with {@code include_value}. Invalid unary and batch requests, including inputs that do not convert,
+ * such as a malformed {@code decimal_value}, fail with {@code INVALID_ARGUMENT} and a full
+ * bulkhead with {@code RESOURCE_EXHAUSTED}; evaluation errors are returned in the
+ * message, like the error body of a 500. A stream never fails for one bad request:
+ * each gets a response with {@code success = false} instead.</p>
+ */
+@GrpcService
+public class DmnGrpcService implements DmnEvaluator {
+
+    @Inject
+    DmnService dmnService;
+
+    @Inject
+    DmnBulkheads bulkheads;
+
+    @Inject
+    DmnMetrics metrics;
+
+    @ConfigProperty(name = "dmn.batch.max-size", defaultValue = "10000")
+    int maxBatchSize;
+
+    @Override
+    public Uni<EvaluateResponse> evaluate(EvaluateRequest request) {
+        String invalid = validate(request.getDmnFile(), request.getNamespace(), request.getModelName());
+        Map<String, Object> inputData = null;
+        if (invalid == null) {
+            try {
+                inputData = toInputData(request.getInputDataMap());
+            } catch (IllegalArgumentException e) {
+                invalid = e.getMessage();
+            }
+        }
+        if (invalid != null) {
+            metrics.recordError(DmnMetrics.CAUSE_INVALID_REQUEST);
+            return Uni.createFrom().failure(Status.INVALID_ARGUMENT.withDescription(invalid).asRuntimeException());
+        }
+        return submit(request, inputData, "grpc")
+                .onFailure(DmnGrpcService::isRejected)
+                .transform(failure -> Status.RESOURCE_EXHAUSTED.withDescription(rejectedCause(failure).getMessage())
+                        .asRuntimeException());
+    }
+
+    @Override
+    public Uni<BatchResponse> evaluateBatch(BatchRequest request) {
+        String invalid = validate(request.getDmnFile(), request.getNamespace(), request.getModelName());
+        if (invalid == null && request.getInputDataCount() > maxBatchSize) {
+            invalid = "Batch size " + request.getInputDataCount() + " exceeds the maximum of " + maxBatchSize;
+        }
+        List<Map<String, Object>> inputs = new ArrayList<>(request.getInputDataCount());
+        for (int i = 0; invalid == null && i < request.getInputDataCount(); i++) {
+            try {
+                inputs.add(toInputData(request.getInputData(i).getValuesMap()));
+            } catch (IllegalArgumentException e) {
+                invalid = "Input set " + i + ": " + e.getMessage();
+            }
+        }
+        if (invalid != null) {
+            metrics.recordError(DmnMetrics.CAUSE_INVALID_REQUEST);
+            return Uni.createFrom().failure(Status.INVALID_ARGUMENT.withDescription(invalid).asRuntimeException());
+        }
+
+        DmnBatchRequest batchRequest = new DmnBatchRequest();
+        batchRequest.setDmnFile(request.getDmnFile());
+        batchRequest.setNamespace(blankToNull(request.getNamespace()));
+        batchRequest.setModelName(blankToNull(request.getModelName()));
+        batchRequest.setDecisionName(blankToNull(request.getDecisionName()));
+        batchRequest.setInputData(inputs);
+
+        AtomicInteger inFlight = metrics.inFlight("grpc-batch");
+        inFlight.incrementAndGet();
+        return Uni.createFrom()
+                .completionStage(() -> bulkheads.submit(bulkheads.keyFor(batchRequest.getDmnFile(), request.getNamespace(), request.getModelName()),
+                        () -> dmnService.evaluateBatch(batchRequest, request.getBypassCache())))
+                .map(response -> toBatchResponse(response, request.getOmitReason(), request.getIncludeValue()))
+                .onFailure(DmnGrpcService::isRejected)
+                .transform(failure -> {
+                    metrics.recordError(DmnMetrics.CAUSE_REJECTED);
+                    return Status.RESOURCE_EXHAUSTED.withDescription(rejectedCause(failure).getMessage()).asRuntimeException();
+                })
+                .onTermination().invoke(inFlight::decrementAndGet);
+    }
+
+    /**
+     * Evaluates streamed requests one after another, answering each in order.
+     */
+    @Override
+    public Multi<EvaluateResponse> evaluateStream(Multi<EvaluateRequest> requests) {
+        return requests.onItem().transformToUniAndConcatenate(request -> {
+            String invalid = validate(request.getDmnFile(), request.getNamespace(), request.getModelName());
+            Map<String, Object> inputData = null;
+            if (invalid == null) {
+                try {
+                    inputData = toInputData(request.getInputDataMap());
+                } catch (IllegalArgumentException e) {
+                    invalid = e.getMessage();
+                }
+            }
+            if (invalid != null) {
+                metrics.recordError(DmnMetrics.CAUSE_INVALID_REQUEST);
+                return Uni.createFrom().item(error(invalid, request.getCorrelationId()));
+            }
+            return submit(request, inputData, "grpc-stream")
+                    .onFailure().recoverWithItem(failure -> error(rejectedCause(failure).getMessage(), request.getCorrelationId()));
+        });
+    }
+
+    private Uni<EvaluateResponse> submit(EvaluateRequest request, Map<String, Object> inputData, String endpoint) {
+        DmnRequest dmnRequest = new DmnRequest();
+        dmnRequest.setDmnFile(request.getDmnFile());
+        dmnRequest.setNamespace(blankToNull(request.getNamespace()));
+        dmnRequest.setModelName(blankToNull(request.getModelName()));
+        dmnRequest.setDecisionName(blankToNull(request.getDecisionName()));
+        if (request.getDecisionNamesCount() > 0) {
+            dmnRequest.setDecisionNames(request.getDecisionNamesList());
+        }
+        dmnRequest.setInputData(inputData);
+
+        AtomicInteger inFlight = metrics.inFlight(endpoint);
+        inFlight.incrementAndGet();
+        return Uni.createFrom()
+                .completionStage(() -> bulkheads.submit(bulkheads.keyFor(request.getDmnFile(), request.getNamespace(), request.getModelName()),
+                        () -> dmnService.evaluateDecision(dmnRequest, request.getBypassCache())))
+                .map(response -> toResponse(response, request.getOmitReason(), request.getIncludeValue(),
+                        request.getCorrelationId()))
+                .onFailure(DmnGrpcService::isRejected)
+                .invoke(() -> metrics.recordError(DmnMetrics.CAUSE_REJECTED))
+                .onTermination().invoke(inFlight::decrementAndGet);
+    }
+
+    private static String validate(String dmnFile, String namespace, String modelName) {
+        // Blank like the REST validation, so both reject the same requests
+        if (dmnFile.isBlank() && (namespace.isBlank() || modelName.isBlank())) {
+            return "DMN file path is required, or a model namespace and name";
+        }
+        return null;
+    }
+
+    private static boolean isRejected(Throwable failure) {
+        return rejectedCause(failure) instanceof RejectedExecutionException;
+    }
+
+    private static Throwable rejectedCause(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private static String blankToNull(String value) {
+        return value.isBlank() ? null : value;
+    }
+
+    /**
+     * Converts request inputs, failing with {@link IllegalArgumentException} for a value that does not convert.
+     */
+    static Map<String, Object> toInputData(Map<String, Value> values) {
+        Map<String, Object> inputData = new HashMap<>(values.size() * 2);
+        values.forEach((name, value) -> inputData.put(name, toJava(value)));
+        return inputData;
+    }
+
+    /**
+     * The Java value the JSON binding would produce for the same input, except that
+     * integers stay {@code Long}; the FEEL runtime and the result cache treat both alike.
+     */
+    static Object toJava(Value value) {
+        return switch (value.getKindCase()) {
+            case BOOL_VALUE -> value.getBoolValue();
+            case LONG_VALUE -> value.getLongValue();
+            case DOUBLE_VALUE -> value.getDoubleValue();
+            case DECIMAL_VALUE -> toDecimal(value.getDecimalValue());
+            case STRING_VALUE -> value.getStringValue();
+            case LIST_VALUE -> {
+                List<Object> list = new ArrayList<>(value.getListValue().getValuesCount());
+                value.getListValue().getValuesList().forEach(element -> list.add(toJava(element)));
+                yield list;
+            }
+            case MAP_VALUE -> toInputData(value.getMapValue().getFieldsMap());
+            case KIND_NOT_SET -> null;
+        };
+    }
+
+    private static BigDecimal toDecimal(String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid decimal value: " + value, e);
+        }
+    }
+
+    /**
+     * The inverse of {@link #toJava(Value)} for decision outputs: FEEL numbers become exact
+     * {@code decimal_value}s, and types without a counterpart, such as dates and durations,
+     * become strings, as in the JSON {@code value}.
+     */
+    static Value toValue(Object value) {
+        Value.Builder builder = Value.newBuilder();
+        switch (value) {
+            case null -> { }
+            case Boolean b -> builder.setBoolValue(b);
+            case Integer i -> builder.setLongValue(i);
+            case Long l -> builder.setLongValue(l);
+            case Double d -> builder.setDoubleValue(d);
+            case Float f -> builder.setDoubleValue(f);
+            case Number number -> builder.setDecimalValue(number.toString());
+            case Map<?, ?> map -> {
+                MapValue.Builder fields = MapValue.newBuilder();
+                map.forEach((key, field) -> fields.putFields(String.valueOf(key), toValue(field)));
+                builder.setMapValue(fields);
+            }
+            case Collection<?> collection -> {
+                ListValue.Builder values = ListValue.newBuilder();
+                collection.forEach(element -> values.addValues(toValue(element)));
+                builder.setListValue(values);
+            }
+            default -> builder.setStringValue(value.toString());
+        }
+        return builder.build();
+    }
+
+    private static EvaluateResponse toResponse(DmnResponse response, boolean omitReason, boolean includeValue,
+                                               String correlationId) {
+        // A copy when it differs from the cached default shape, as for the REST endpoints
+        return toMessage(response.select(!omitReason, includeValue), includeValue, correlationId);
+    }
+
+    private static EvaluateResponse toMessage(DmnResponse response, boolean includeValue, String correlationId) {
+        EvaluateResponse.Builder builder = EvaluateResponse.newBuilder()
+                .setResult(response.isResult())
+                .setSuccess(response.isSuccess())
+                .setCorrelationId(correlationId);
+        String reason = response.getReason();
+        if (reason != null) {
+            builder.setReason(reason);
+        }
+        if (response.getError() != null) {
+            builder.setError(response.getError());
+        }
+        if (includeValue && response.isSuccess()) {
+            builder.setValue(toValue(response.getOutput()));
+        }
+        if (response.getDecisions() != null) {
+            for (DmnResponse decision : response.getDecisions()) {
+                builder.addDecisions(toMessage(decision, includeValue, ""));
+            }
+        }
+        return builder.build();
+    }
+
+    private static BatchResponse toBatchResponse(DmnBatchResponse response, boolean omitReason, boolean includeValue) {
+        BatchResponse.Builder builder = BatchResponse.newBuilder().setSuccess(response.isSuccess());
+        if (response.getError() != null) {
+            builder.setError(response.getError());
+        }
+        for (DmnResponse result : response.getResults()) {
+            builder.addResults(toResponse(result, omitReason, includeValue, ""));
+        }
+        return builder.build();
+    }
+
+    private static EvaluateResponse error(String error, String correlationId) {
+        return EvaluateResponse.newBuilder()
+                .setSuccess(false)
+                .setError(error)
+                .setCorrelationId(correlationId)
+                .build();
+    }
+}
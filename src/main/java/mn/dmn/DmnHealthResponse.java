@@ -0,0 +1,49 @@
+package mn.dmn;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.util.List;
+
+public class DmnHealthResponse {
+
+    @JsonbProperty("status")
+    private String status;
+
+    @JsonbProperty("service")
+    private String service;
+
+    @JsonbProperty("models")
+    private List<DmnModelStatus> models;
+
+    public DmnHealthResponse() {}
+
+    public DmnHealthResponse(String status, String service, List<DmnModelStatus> models) {
+        this.status = status;
+        this.service = service;
+        this.models = models;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getService() {
+        return service;
+    }
+
+    public void setService(String service) {
+        this.service = service;
+    }
+
+    public List<DmnModelStatus> getModels() {
+        return models;
+    }
+
+    public void setModels(List<DmnModelStatus> models) {
+        this.models = models;
+    }
+}
@@ -0,0 +1,195 @@
+package mn.dmn;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer meters of the DMN service, exported at {@code /q/metrics}.
+ *
+ * <ul>
+ *   <li>{@code dmn.evaluation}: evaluation latency with p50/p99/p999, tagged by
+ *       {@code dmnFile}, {@code decisionName} ({@code selected} for several decisions at once)
+ *       and {@code outcome}</li>
+ *   <li>{@code dmn.model.compile}: model compilation time, tagged by {@code dmnFile} and {@code outcome}</li>
+ *   <li>{@code dmn.errors}: failed requests and evaluations, tagged by {@code cause}</li>
+ *   <li>{@code dmn.requests.in.flight}: requests being processed, tagged by {@code endpoint}</li>
+ *   <li>{@code dmn.stream.rows}: rows scored by {@code /dmn/evaluate/stream}, tagged by {@code dmnFile}
+ *       and {@code outcome}, counted as they are written so a long stream reports progress</li>
+ *   <li>{@code dmn.stream.active}: streams being scored</li>
+ * </ul>
+ *
+ * <p>Tags only carry names of compiled models and of decisions they define, so
+ * arbitrary request values cannot grow the number of series.</p>
+ */
+@ApplicationScoped
+public class DmnMetrics {
+
+    /** Values of the {@code cause} tag of {@code dmn.errors}. */
+    public static final String CAUSE_INVALID_REQUEST = "invalid_request";
+    public static final String CAUSE_MODEL_LOAD = "model_load";
+    public static final String CAUSE_DECISION_NOT_FOUND = "decision_not_found";
+    public static final String CAUSE_EVALUATION = "evaluation";
+    public static final String CAUSE_NO_RESULT = "no_result";
+    public static final String CAUSE_INVALID_ROW = "invalid_row";
+    public static final String CAUSE_REJECTED = "rejected";
+    public static final String CAUSE_EXCEPTION = "exception";
+
+    private static final String ALL_DECISIONS = "all";
+    private static final String SELECTED_DECISIONS = "selected";
+    private static final String UNKNOWN_DECISION = "unknown";
+    // Cannot clash with a decision name, which is never looked up with a leading NUL
+    private static final String UNKNOWN_KEY = "\0unknown";
+    private static final String SELECTION_PREFIX = "\0\0";
+
+    @Inject
+    MeterRegistry registry;
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Timer[]>> evaluationTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> errorCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter[]> streamRowCounters = new ConcurrentHashMap<>();
+    private final AtomicInteger activeStreams = new AtomicInteger();
+
+    @PostConstruct
+    void init() {
+        for (String endpoint : new String[] {"evaluate", "batch", "stream"}) {
+            inFlight(endpoint);
+        }
+        Gauge.builder("dmn.stream.active", activeStreams, AtomicInteger::get)
+                .description("DMN streams currently being scored")
+                .register(registry);
+    }
+
+    /**
+     * Records one evaluation against a compiled model.
+     */
+    public void recordEvaluation(CompiledDmnModel model, String decisionName, long nanos, boolean success) {
+        ConcurrentMap<String, Timer[]> byDecision = evaluationTimers
+                .computeIfAbsent(model.getDmnFile(), file -> new ConcurrentHashMap<>());
+        Timer[] timers = byDecision.get(decisionName == null ? "" : decisionName);
+        if (timers == null) {
+            // Names the model does not define all share one entry instead of growing the map
+            String decision = decisionTag(model, decisionName);
+            String key = decision.equals(UNKNOWN_DECISION) ? UNKNOWN_KEY
+                    : decision.equals(SELECTED_DECISIONS) ? SELECTION_PREFIX
+                    : decisionName == null ? "" : decisionName;
+            timers = byDecision.computeIfAbsent(key, k -> new Timer[] {
+                    evaluationTimer(model.getDmnFile(), decision, "success"),
+                    evaluationTimer(model.getDmnFile(), decision, "error")});
+        }
+        timers[success ? 0 : 1].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCompile(String dmnFile, long nanos, boolean success) {
+        Timer.builder("dmn.model.compile")
+                .description("Time to compile a DMN file into a runtime")
+                .tags("dmnFile", dmnFile, "outcome", success ? "success" : "error")
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a request that waited for a compilation already in progress instead of starting its own.
+     */
+    public void recordCoalescedCompile(String dmnFile) {
+        Counter.builder("dmn.model.compile.coalesced")
+                .description("Requests that shared an in-flight compilation of the same DMN content")
+                .tag("dmnFile", dmnFile)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordError(String cause) {
+        errorCounters.computeIfAbsent(cause, c -> Counter.builder("dmn.errors")
+                .description("Failed DMN requests and evaluations by cause")
+                .tag("cause", c)
+                .register(registry)).increment();
+    }
+
+    /**
+     * The in-flight counter of an endpoint; increment it on entry and decrement it when done.
+     */
+    public AtomicInteger inFlight(String endpoint) {
+        return inFlight.computeIfAbsent(endpoint, e -> {
+            AtomicInteger counter = new AtomicInteger();
+            Gauge.builder("dmn.requests.in.flight", counter, AtomicInteger::get)
+                    .description("DMN requests currently being processed")
+                    .tag("endpoint", e)
+                    .register(registry);
+            return counter;
+        });
+    }
+
+    /**
+     * The counters of rows streamed against {@code model}, successful first; look them up once per stream.
+     */
+    public Counter[] streamRows(CompiledDmnModel model) {
+        return streamRowCounters.computeIfAbsent(model.getDmnFile(), dmnFile -> new Counter[] {
+                streamRowCounter(dmnFile, "success"),
+                streamRowCounter(dmnFile, "error")});
+    }
+
+    /**
+     * The number of streams being scored; increment it when a stream starts and decrement it when it ends.
+     */
+    public AtomicInteger activeStreams() {
+        return activeStreams;
+    }
+
+    private Counter streamRowCounter(String dmnFile, String outcome) {
+        return Counter.builder("dmn.stream.rows")
+                .description("Rows scored by DMN streams")
+                .tags("dmnFile", dmnFile, "outcome", outcome)
+                .register(registry);
+    }
+
+    private Timer evaluationTimer(String dmnFile, String decisionName, String outcome) {
+        return Timer.builder("dmn.evaluation")
+                .description("Time to evaluate a DMN decision")
+                .tags("dmnFile", dmnFile, "decisionName", decisionName, "outcome", outcome)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(registry);
+    }
+
+    /**
+     * The key under which an evaluation of several decisions is cached and timed; the
+     * leading NULs keep it apart from any single decision name.
+     */
+    static String selectionKey(List<String> decisionNames) {
+        return SELECTION_PREFIX + String.join("\0", decisionNames);
+    }
+
+    /**
+     * A readable form of an evaluation key: the decision name, the selected names separated by commas, or {@code all}.
+     */
+    static String decisionLabel(String decisionName) {
+        if (decisionName == null || decisionName.trim().isEmpty()) {
+            return ALL_DECISIONS;
+        }
+        if (decisionName.startsWith(SELECTION_PREFIX)) {
+            return decisionName.substring(SELECTION_PREFIX.length()).replace('\0', ',');
+        }
+        return decisionName;
+    }
+
+    private static String decisionTag(CompiledDmnModel model, String decisionName) {
+        if (decisionName == null || decisionName.trim().isEmpty()) {
+            return ALL_DECISIONS;
+        }
+        if (decisionName.startsWith(SELECTION_PREFIX)) {
+            return SELECTED_DECISIONS;
+        }
+        return model.getModel().getDecisionByName(decisionName) != null ? decisionName : UNKNOWN_DECISION;
+    }
+}
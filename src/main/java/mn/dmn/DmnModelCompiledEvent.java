@@ -0,0 +1,44 @@
+package mn.dmn;
+
+import java.nio.file.Path;
+
+/**
+ * Fired by {@link DmnModelRegistry} whenever a DMN file has been (re)compiled and
+ * the new model has become visible to requests.
+ */
+public class DmnModelCompiledEvent {
+
+    private final String dmnFile;
+    private final Path sourcePath;
+    private final CompiledDmnModel model;
+    private final CompiledDmnModel previous;
+
+    public DmnModelCompiledEvent(String dmnFile, Path sourcePath, CompiledDmnModel model, CompiledDmnModel previous) {
+        this.dmnFile = dmnFile;
+        this.sourcePath = sourcePath;
+        this.model = model;
+        this.previous = previous;
+    }
+
+    public String getDmnFile() {
+        return dmnFile;
+    }
+
+    /**
+     * The filesystem location the model was read from, or {@code null} for classpath resources.
+     */
+    public Path getSourcePath() {
+        return sourcePath;
+    }
+
+    public CompiledDmnModel getModel() {
+        return model;
+    }
+
+    /**
+     * The model replaced by this compilation, or {@code null} on first load.
+     */
+    public CompiledDmnModel getPrevious() {
+        return previous;
+    }
+}
@@ -0,0 +1,157 @@
+package mn.dmn;
+
+import io.vertx.ext.web.RoutingContext;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deploys DMN models once and evaluates them by id; see {@link DmnModelStore}.
+ */
+@Path("/dmn/models")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class DmnModelController {
+
+    @Inject
+    DmnModelStore modelStore;
+
+    @Inject
+    DmnService dmnService;
+
+    @Inject
+    DmnBulkheads bulkheads;
+
+    @Inject
+    DmnMetrics metrics;
+
+    @Inject
+    DmnServerTiming serverTiming;
+
+    @POST
+    @Consumes({MediaType.APPLICATION_XML, MediaType.TEXT_XML, MediaType.APPLICATION_OCTET_STREAM})
+    public Response deploy(@QueryParam("id") String id, byte[] content) {
+        try {
+            DmnModelInfo info = modelStore.deploy(id == null || id.isBlank() ? null : id.trim(), content);
+            return Response.created(URI.create("/dmn/models/" + info.getId()))
+                    .entity(info)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return error(Response.Status.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GET
+    public Response list() {
+        return Response.ok(modelStore.list()).build();
+    }
+
+    @GET
+    @Path("/{id}")
+    public Response get(@PathParam("id") String id) {
+        DmnModelInfo info = modelStore.getInfo(id);
+        return info != null ? Response.ok(info).build() : notFound(id);
+    }
+
+    @DELETE
+    @Path("/{id}")
+    public Response delete(@PathParam("id") String id) {
+        return modelStore.delete(id) ? Response.noContent().build() : notFound(id);
+    }
+
+    @DELETE
+    @Path("/{id}/versions/{version}")
+    public Response deleteVersion(@PathParam("id") String id, @PathParam("version") int version) {
+        try {
+            return modelStore.delete(id, version) ? Response.noContent().build() : notFound(id + " version " + version);
+        } catch (IllegalStateException e) {
+            return error(Response.Status.CONFLICT, e.getMessage());
+        }
+    }
+
+    @PUT
+    @Path("/{id}/pin/{version}")
+    public Response pin(@PathParam("id") String id, @PathParam("version") int version) {
+        DmnModelInfo info = modelStore.pin(id, version);
+        return info != null ? Response.ok(info).build() : notFound(id + " version " + version);
+    }
+
+    @DELETE
+    @Path("/{id}/pin")
+    public Response unpin(@PathParam("id") String id) {
+        DmnModelInfo info = modelStore.unpin(id);
+        return info != null ? Response.ok(info).build() : notFound(id);
+    }
+
+    /**
+     * Evaluates the pinned or latest version of the model, or {@code version} if given.
+     * The {@code dmnFile} of the request body is ignored.
+     */
+    @POST
+    @Path("/{id}/evaluate")
+    public CompletionStage<Response> evaluate(@PathParam("id") String id,
+                                              @QueryParam("version") Integer version,
+                                              DmnRequest request,
+                                              @HeaderParam(DmnController.CACHE_HEADER) String cacheMode,
+                                              @QueryParam("includeReason") @DefaultValue("true") boolean includeReason,
+                                              @QueryParam("includeValue") @DefaultValue("false") boolean includeValue,
+                                              @Context RoutingContext routingContext) {
+        DmnTimings timings = serverTiming.begin(routingContext);
+        CompiledDmnModel model = modelStore.get(id, version);
+        if (model == null) {
+            return CompletableFuture.completedFuture(notFound(version == null ? id : id + " version " + version));
+        }
+        if (request == null) {
+            metrics.recordError(DmnMetrics.CAUSE_INVALID_REQUEST);
+            return CompletableFuture.completedFuture(error(Response.Status.BAD_REQUEST, "Request body is required"));
+        }
+
+        AtomicInteger inFlight = metrics.inFlight("evaluate");
+        inFlight.incrementAndGet();
+        boolean bypassCache = DmnController.isCacheBypass(cacheMode);
+        long queued = System.nanoTime();
+        return bulkheads.submit(model.getDmnFile(), () -> {
+                    if (timings != null) {
+                        timings.record(DmnTimings.Phase.QUEUE, queued, System.nanoTime());
+                        timings.bind();
+                    }
+                    try {
+                        DmnResponse response = request.hasDecisionNames()
+                                ? dmnService.evaluateDecisions(model, request.getDecisionNames(), request.getInputData(), bypassCache)
+                                : dmnService.evaluateDecision(model, request.getDecisionName(), request.getInputData(), bypassCache);
+                        if (response.isSuccess()) {
+                            return serverTiming.finish(timings, Response.ok(response.select(includeReason, includeValue))).build();
+                        }
+                        return serverTiming.finish(timings, Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(response))
+                                .build();
+                    } catch (Exception e) {
+                        return serverTiming.finish(timings, Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                                .type(MediaType.APPLICATION_JSON)
+                                .entity(new DmnResponse("Unexpected error: " + e.getMessage())))
+                                .build();
+                    } finally {
+                        DmnTimings.unbind();
+                    }
+                })
+                .exceptionally(failure -> DmnController.rejected(metrics, failure, DmnResponse::new))
+                .whenComplete((response, failure) -> inFlight.decrementAndGet());
+    }
+
+    private static Response notFound(String model) {
+        return error(Response.Status.NOT_FOUND, "Model not found: " + model);
+    }
+
+    private static Response error(Response.Status status, String error) {
+        return Response.status(status)
+                .type(MediaType.APPLICATION_JSON)
+                .entity(new DmnResponse(error))
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package mn.dmn;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.util.List;
+
+public class DmnModelInfo {
+
+    @JsonbProperty("id")
+    private String id;
+
+    @JsonbProperty("name")
+    private String name;
+
+    @JsonbProperty("namespace")
+    private String namespace;
+
+    @JsonbProperty("activeVersion")
+    private Integer activeVersion;
+
+    @JsonbProperty("latestVersion")
+    private Integer latestVersion;
+
+    @JsonbProperty("pinnedVersion")
+    private Integer pinnedVersion;
+
+    @JsonbProperty("versions")
+    private List<Version> versions;
+
+    public DmnModelInfo() {}
+
+    public DmnModelInfo(String id, String name, String namespace, Integer activeVersion, Integer latestVersion,
+                        Integer pinnedVersion, List<Version> versions) {
+        this.id = id;
+        this.name = name;
+        this.namespace = namespace;
+        this.activeVersion = activeVersion;
+        this.latestVersion = latestVersion;
+        this.pinnedVersion = pinnedVersion;
+        this.versions = versions;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public void setNamespace(String namespace) {
+        this.namespace = namespace;
+    }
+
+    public Integer getActiveVersion() {
+        return activeVersion;
+    }
+
+    public void setActiveVersion(Integer activeVersion) {
+        this.activeVersion = activeVersion;
+    }
+
+    public Integer getLatestVersion() {
+        return latestVersion;
+    }
+
+    public void setLatestVersion(Integer latestVersion) {
+        this.latestVersion = latestVersion;
+    }
+
+    public Integer getPinnedVersion() {
+        return pinnedVersion;
+    }
+
+    public void setPinnedVersion(Integer pinnedVersion) {
+        this.pinnedVersion = pinnedVersion;
+    }
+
+    public List<Version> getVersions() {
+        return versions;
+    }
+
+    public void setVersions(List<Version> versions) {
+        this.versions = versions;
+    }
+
+    /**
+     * One deployed version of a model.
+     */
+    public static class Version {
+
+        @JsonbProperty("version")
+        private int version;
+
+        @JsonbProperty("fingerprint")
+        private String fingerprint;
+
+        @JsonbProperty("deployedAt")
+        private String deployedAt;
+
+        @JsonbProperty("compileTimeMs")
+        private long compileTimeMs;
+
+        @JsonbProperty("decisions")
+        private List<String> decisions;
+
+        public Version() {}
+
+        public Version(int version, String fingerprint, String deployedAt, long compileTimeMs, List<String> decisions) {
+            this.version = version;
+            this.fingerprint = fingerprint;
+            this.deployedAt = deployedAt;
+            this.compileTimeMs = compileTimeMs;
+            this.decisions = decisions;
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        public void setVersion(int version) {
+            this.version = version;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public void setFingerprint(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        public String getDeployedAt() {
+            return deployedAt;
+        }
+
+        public void setDeployedAt(String deployedAt) {
+            this.deployedAt = deployedAt;
+        }
+
+        public long getCompileTimeMs() {
+            return compileTimeMs;
+        }
+
+        public void setCompileTimeMs(long compileTimeMs) {
+            this.compileTimeMs = compileTimeMs;
+        }
+
+        public List<String> getDecisions() {
+            return decisions;
+        }
+
+        public void setDecisions(List<String> decisions) {
+            this.decisions = decisions;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package mn.dmn;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Compiles every DMN resource known at startup so that the first request for a
+ * model never pays the compilation cost.
+ *
+ * <p>Models are discovered on the application classpath (next to
+ * {@code application.properties}) and, optionally, in the directory configured
+ * with {@code dmn.models.dir}. They are compiled in parallel into the
+ * {@link DmnModelRegistry}; the service reports itself ready once every model has
+ * been compiled successfully.</p>
+ *
+ * <p>With {@code dmn.preload.shared-runtime} the models are instead compiled together
+ * into one shared runtime, which lets them import each other.</p>
+ */
+@ApplicationScoped
+public class DmnModelPreloader {
+
+    private static final Logger LOG = Logger.getLogger(DmnModelPreloader.class);
+
+    private static final String DMN_EXTENSION = ".dmn";
+    private static final String CLASSPATH_ANCHOR = "application.properties";
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @ConfigProperty(name = "dmn.preload.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "dmn.preload.threads", defaultValue = "0")
+    int threads;
+
+    @ConfigProperty(name = "dmn.preload.shared-runtime", defaultValue = "false")
+    boolean sharedRuntime;
+
+    @ConfigProperty(name = "dmn.models.dir")
+    Optional<String> modelsDir;
+
+    private final ConcurrentMap<String, DmnModelStatus> statuses = new ConcurrentSkipListMap<>();
+
+    private volatile boolean complete;
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            complete = true;
+            return;
+        }
+        preload();
+    }
+
+    /**
+     * Discovers and compiles all DMN resources, blocking until every compilation
+     * has finished.
+     */
+    public void preload() {
+        complete = false;
+        Set<String> dmnFiles = discover();
+        dmnFiles.forEach(dmnFile -> statuses.put(dmnFile, new DmnModelStatus(dmnFile, DmnModelStatus.State.PENDING, null, null)));
+        if (sharedRuntime && !dmnFiles.isEmpty()) {
+            compileShared(dmnFiles);
+            return;
+        }
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(poolSize, dmnFiles.size())));
+        try {
+            long start = System.nanoTime();
+            CompletableFuture<?>[] compilations = dmnFiles.stream()
+                    .map(dmnFile -> CompletableFuture.runAsync(() -> compile(dmnFile), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(compilations).join();
+            LOG.infof("Precompiled %d DMN model(s) in %d ms", dmnFiles.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            executor.shutdown();
+            complete = true;
+        }
+    }
+
+    /**
+     * The service is ready once preloading has finished and no model failed to compile.
+     */
+    public boolean isReady() {
+        return complete && statuses.values().stream().noneMatch(s -> s.getState() == DmnModelStatus.State.FAILED);
+    }
+
+    public List<DmnModelStatus> getStatuses() {
+        return new ArrayList<>(statuses.values());
+    }
+
+    private void compile(String dmnFile) {
+        statuses.put(dmnFile, new DmnModelStatus(dmnFile, DmnModelStatus.State.COMPILING, null, null));
+        long start = System.nanoTime();
+        try {
+            modelRegistry.get(dmnFile);
+            statuses.put(dmnFile, new DmnModelStatus(dmnFile, DmnModelStatus.State.READY, (System.nanoTime() - start) / 1_000_000, null));
+        } catch (Exception e) {
+            LOG.errorf(e, "Failed to precompile DMN model %s", dmnFile);
+            statuses.put(dmnFile, new DmnModelStatus(dmnFile, DmnModelStatus.State.FAILED, (System.nanoTime() - start) / 1_000_000, e.getMessage()));
+        }
+    }
+
+    private void compileShared(Set<String> dmnFiles) {
+        dmnFiles.forEach(dmnFile -> statuses.put(dmnFile, new DmnModelStatus(dmnFile, DmnModelStatus.State.COMPILING, null, null)));
+        long start = System.nanoTime();
+        try {
+            modelRegistry.loadShared(dmnFiles);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            dmnFiles.forEach(dmnFile -> statuses.put(dmnFile, new DmnModelStatus(dmnFile, DmnModelStatus.State.READY, elapsedMs, null)));
+            LOG.infof("Precompiled %d DMN model(s) into a shared runtime in %d ms", dmnFiles.size(), elapsedMs);
+        } catch (Exception e) {
+            LOG.errorf(e, "Failed to precompile the shared DMN runtime");
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            dmnFiles.forEach(dmnFile -> statuses.put(dmnFile, new DmnModelStatus(dmnFile, DmnModelStatus.State.FAILED, elapsedMs, e.getMessage())));
+        } finally {
+            complete = true;
+        }
+    }
+
+    Set<String> discover() {
+        Set<String> dmnFiles = new TreeSet<>();
+        try {
+            Enumeration<URL> anchors = getClass().getClassLoader().getResources(CLASSPATH_ANCHOR);
+            for (URL anchor : Collections.list(anchors)) {
+                dmnFiles.addAll(discoverClasspath(anchor));
+            }
+        } catch (IOException e) {
+            LOG.warnf(e, "Unable to scan the classpath for DMN resources");
+        }
+
+        modelsDir.map(Paths::get).ifPresent(dir -> {
+            if (!Files.isDirectory(dir)) {
+                LOG.warnf("Configured DMN directory %s does not exist", dir);
+                return;
+            }
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.filter(DmnModelPreloader::isDmnFile).forEach(path -> dmnFiles.add(path.toString()));
+            } catch (IOException e) {
+                LOG.warnf(e, "Unable to scan DMN directory %s", dir);
+            }
+        });
+        return dmnFiles;
+    }
+
+    private static List<String> discoverClasspath(URL anchor) throws IOException {
+        List<String> found = new ArrayList<>();
+        switch (anchor.getProtocol()) {
+            case "file" -> {
+                Path root = Paths.get(URI.create(anchor.toString())).getParent();
+                try (Stream<Path> files = Files.walk(root)) {
+                    files.filter(DmnModelPreloader::isDmnFile)
+                            .forEach(path -> found.add(root.relativize(path).toString().replace('\\', '/')));
+                }
+            }
+            case "jar" -> {
+                JarURLConnection connection = (JarURLConnection) anchor.openConnection();
+                connection.setUseCaches(false);
+                try (JarFile jar = connection.getJarFile()) {
+                    jar.stream()
+                            .filter(entry -> !entry.isDirectory() && entry.getName().endsWith(DMN_EXTENSION))
+                            .forEach(entry -> found.add(entry.getName()));
+                }
+            }
+            default -> LOG.debugf("Skipping DMN discovery for unsupported classpath location %s", anchor);
+        }
+        return found;
+    }
+
+    private static boolean isDmnFile(Path path) {
+        return Files.isRegularFile(path) && path.getFileName().toString().endsWith(DMN_EXTENSION);
+    }
+}
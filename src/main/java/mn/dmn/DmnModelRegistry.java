@@ -0,0 +1,571 @@
+package mn.dmn;
+
+import io.quarkus.runtime.ImageMode;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.kie.api.KieServices;
+import org.kie.api.io.Resource;
+import org.kie.api.io.ResourceType;
+import org.kie.dmn.api.core.DMNMessage;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.core.internal.utils.DMNRuntimeBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application wide cache of compiled DMN models.
+ *
+ * <p>Each DMN file is compiled once, straight into its own {@link DMNRuntime} without
+ * a kjar or {@code KieContainer}, and the resulting {@link DMNRuntime}/{@link DMNModel} pair is reused by every request
+ * until the content of the file changes. Entries are keyed by the requested
+ * {@code dmnFile} and carry the SHA-256 fingerprint of the content they were
+ * compiled from; filesystem sources are re-fingerprinted only when their size or
+ * modification time changes.</p>
+ *
+ * <p>Filesystem sources registered with {@link #markWatched(Path)} are not checked
+ * on the request path at all: the {@link DmnModelWatcher} calls {@link #reload(String)}
+ * when they change, which swaps the compiled model in atomically. Evaluations
+ * already holding the previous {@link CompiledDmnModel} finish on it.</p>
+ *
+ * <p>Compiled models are also indexed by DMN namespace and name
+ * ({@link #getByName(String, String)}). {@link #loadShared(Collection)} compiles many
+ * files into one shared {@link DMNRuntime}, so models can import each other; a
+ * change to any of them recompiles the whole group.</p>
+ *
+ * <p>FEEL expressions are interpreted unless {@code dmn.feel.mode} (or
+ * {@code dmn.feel.mode.<dmnFile>} for one file) selects {@link FeelMode#COMPILED}.
+ * A shared runtime is built in a single mode, so it uses {@code dmn.feel.mode}. A native
+ * executable always interprets FEEL, because it cannot load classes generated at run time.</p>
+ *
+ * <p>Concurrent requests for a file that needs compiling share one compilation of
+ * its content: the first compiles, the others wait for its result. At most
+ * {@code dmn.compile.max-concurrent} compilations run at a time across all files.</p>
+ */
+@ApplicationScoped
+public class DmnModelRegistry {
+
+    private static final Logger LOG = Logger.getLogger(DmnModelRegistry.class);
+
+    /**
+     * How the KIE engine runs FEEL: {@code interpreted} walks the expression tree on
+     * every evaluation, {@code compiled} turns expressions and decision tables into
+     * Java classes when the model is compiled, which makes compilation slower.
+     */
+    public enum FeelMode {
+        INTERPRETED,
+        COMPILED
+    }
+
+    @Inject
+    Event<DmnModelCompiledEvent> compiledEvent;
+
+    @Inject
+    DmnMetrics metrics;
+
+    @Inject
+    Config config;
+
+    @ConfigProperty(name = "dmn.feel.mode", defaultValue = "interpreted")
+    FeelMode feelMode = FeelMode.INTERPRETED;
+
+    @ConfigProperty(name = "dmn.compile.max-concurrent", defaultValue = "0")
+    int maxConcurrentCompilations;
+
+    // Unbounded when the registry is created without CDI
+    private Semaphore compilePermits;
+
+    private final ConcurrentMap<String, Entry> models = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompiledDmnModel> modelsByName = new ConcurrentHashMap<>();
+    private final Set<Path> watchedPaths = ConcurrentHashMap.newKeySet();
+    // Keyed by file and fingerprint, removed as soon as the compilation finishes
+    private final ConcurrentMap<String, CompletableFuture<CompiledDmnModel>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder compilations = new LongAdder();
+    private final LongAdder compileNanos = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        compilePermits = new Semaphore(maxConcurrentCompilations > 0
+                ? maxConcurrentCompilations
+                : Runtime.getRuntime().availableProcessors(), true);
+    }
+
+    /**
+     * Returns the compiled model for the given DMN file, compiling it on first use
+     * or when the underlying content has changed.
+     */
+    public CompiledDmnModel get(String dmnFile) {
+        Entry entry = models.get(dmnFile);
+        if (entry != null && (entry.path == null || watchedPaths.contains(entry.path) || entry.isCurrent())) {
+            hits.increment();
+            return entry.model;
+        }
+
+        DmnSource source = resolve(dmnFile);
+        String fingerprint = fingerprint(source.content);
+        if (entry != null && entry.model.getFingerprint().equals(fingerprint)) {
+            // Touched but unchanged: remember the new stamp and keep the compiled model
+            models.put(dmnFile, new Entry(entry.model, source, entry.group));
+            hits.increment();
+            return entry.model;
+        }
+
+        misses.increment();
+        return swap(dmnFile, source, fingerprint, entry);
+    }
+
+    /**
+     * Re-reads the given DMN file and, if its content changed, compiles it and
+     * replaces the cached model. Compilation failures leave the current model in place.
+     */
+    public CompiledDmnModel reload(String dmnFile) {
+        Entry entry = models.get(dmnFile);
+        DmnSource source = resolve(dmnFile);
+        String fingerprint = fingerprint(source.content);
+        if (entry != null && entry.model.getFingerprint().equals(fingerprint)) {
+            models.put(dmnFile, new Entry(entry.model, source, entry.group));
+            return entry.model;
+        }
+        return swap(dmnFile, source, fingerprint, entry);
+    }
+
+    /**
+     * Marks a filesystem source as watched for changes, so requests stop checking it on disk.
+     */
+    public void markWatched(Path path) {
+        watchedPaths.add(path.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Makes requests check a filesystem source on disk again, e.g. after it was deleted.
+     */
+    public void unmarkWatched(Path path) {
+        watchedPaths.remove(path.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Whether a model has been loaded for {@code dmnFile}, without checking or compiling its source.
+     */
+    public boolean isLoaded(String dmnFile) {
+        return models.containsKey(dmnFile);
+    }
+
+    /**
+     * The compiled model with the given DMN namespace and name, or {@code null} if no
+     * loaded file defines it. Models are indexed once compiled, e.g. by preloading.
+     */
+    public CompiledDmnModel getByName(String namespace, String name) {
+        return modelsByName.get(modelKey(namespace, name));
+    }
+
+    /**
+     * Index key of a model, in the {@code {namespace}name} form of a qualified name.
+     */
+    static String modelKey(String namespace, String name) {
+        return "{" + namespace + "}" + name;
+    }
+
+    /**
+     * Compiles {@code dmnFiles} together into one {@link DMNRuntime} and registers
+     * each file with the model it defines.
+     */
+    public List<CompiledDmnModel> loadShared(Collection<String> dmnFiles) {
+        long start = System.nanoTime();
+        KieServices kieServices = KieServices.Factory.get();
+        Map<String, DmnSource> sources = new LinkedHashMap<>();
+        List<Resource> resources = new ArrayList<>(dmnFiles.size());
+        for (String dmnFile : dmnFiles) {
+            DmnSource source = resolve(dmnFile);
+            sources.put(dmnFile, source);
+            Resource resource = kieServices.getResources().newByteArrayResource(source.content);
+            // The file name is unique within the group, so each model can be traced back to it
+            resource.setSourcePath(dmnFile);
+            resource.setResourceType(ResourceType.DMN);
+            resources.add(resource);
+        }
+
+        DMNRuntime dmnRuntime = null;
+        acquireCompilePermit();
+        DmnCompilationEvent event = new DmnCompilationEvent();
+        event.begin();
+        try {
+            dmnRuntime = runtimeBuilder(feelMode)
+                    .buildConfiguration()
+                    .fromResources(resources)
+                    .getOrElseThrow(e -> new RuntimeException("DMN compilation errors: " + e.getMessage(), e));
+        } catch (RuntimeException e) {
+            if (metrics != null) {
+                sources.keySet().forEach(dmnFile -> metrics.recordCompile(dmnFile, System.nanoTime() - start, false));
+            }
+            throw e;
+        } finally {
+            releaseCompilePermit();
+            event.complete(String.join(",", sources.keySet()), feelMode,
+                    dmnRuntime == null ? List.of() : dmnRuntime.getModels(), dmnRuntime != null);
+        }
+
+        Map<String, DMNModel> modelsByFile = new HashMap<>();
+        for (DMNModel dmnModel : dmnRuntime.getModels()) {
+            if (dmnModel.getResource() != null) {
+                modelsByFile.put(dmnModel.getResource().getSourcePath(), dmnModel);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        compilations.add(sources.size());
+        compileNanos.add(elapsed);
+
+        SharedGroup group = new SharedGroup(List.copyOf(sources.keySet()));
+        List<CompiledDmnModel> compiled = new ArrayList<>(sources.size());
+        for (Map.Entry<String, DmnSource> file : sources.entrySet()) {
+            String dmnFile = file.getKey();
+            DMNModel dmnModel = modelsByFile.get(dmnFile);
+            if (dmnModel == null) {
+                throw new RuntimeException("No DMN models found in file: " + dmnFile);
+            }
+            requireNoErrors(dmnModel);
+            String fingerprint = fingerprint(file.getValue().content);
+            CompiledDmnModel model = new CompiledDmnModel(dmnFile, fingerprint, dmnRuntime, dmnModel, elapsed,
+                    compileFastDecisionTables(dmnModel), feelMode);
+            if (metrics != null) {
+                metrics.recordCompile(dmnFile, elapsed, true);
+            }
+            register(dmnFile, file.getValue(), model, group);
+            compiled.add(model);
+        }
+        return compiled;
+    }
+
+    /**
+     * Compiles and registers {@code source}, or waits for the compilation of the same
+     * content another caller already started.
+     */
+    private CompiledDmnModel swap(String dmnFile, DmnSource source, String fingerprint, Entry previous) {
+        long compileStart = DmnTimings.start();
+        try {
+            return compileOnce(dmnFile, source, fingerprint, previous);
+        } finally {
+            DmnTimings.stop(DmnTimings.Phase.COMPILE, compileStart);
+        }
+    }
+
+    private CompiledDmnModel compileOnce(String dmnFile, DmnSource source, String fingerprint, Entry previous) {
+        String key = dmnFile + '\0' + fingerprint;
+        CompletableFuture<CompiledDmnModel> compilation = new CompletableFuture<>();
+        CompletableFuture<CompiledDmnModel> running = inFlight.putIfAbsent(key, compilation);
+        if (running != null) {
+            coalesced.increment();
+            if (metrics != null) {
+                metrics.recordCoalescedCompile(dmnFile);
+            }
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            Entry current = models.get(dmnFile);
+            if (current != null && current.model.getFingerprint().equals(fingerprint)) {
+                // Another caller finished compiling this content after our entry was read
+                compilation.complete(current.model);
+                return current.model;
+            }
+            CompiledDmnModel compiled = compileAndRegister(dmnFile, source, fingerprint, previous);
+            compilation.complete(compiled);
+            return compiled;
+        } catch (RuntimeException e) {
+            compilation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, compilation);
+        }
+    }
+
+    private CompiledDmnModel compileAndRegister(String dmnFile, DmnSource source, String fingerprint, Entry previous) {
+        if (previous != null && previous.group != null) {
+            // Other models of the group may import this one, so they are compiled again together
+            loadShared(previous.group.dmnFiles);
+            return models.get(dmnFile).model;
+        }
+        long start = System.nanoTime();
+        CompiledDmnModel compiled;
+        try {
+            compiled = compile(dmnFile, fingerprint, source.content);
+        } catch (RuntimeException e) {
+            if (metrics != null) {
+                metrics.recordCompile(dmnFile, System.nanoTime() - start, false);
+            }
+            throw e;
+        }
+        if (metrics != null) {
+            metrics.recordCompile(dmnFile, compiled.getCompileNanos(), true);
+        }
+        register(dmnFile, source, compiled, null);
+        return compiled;
+    }
+
+    private void register(String dmnFile, DmnSource source, CompiledDmnModel compiled, SharedGroup group) {
+        Entry previous = models.put(dmnFile, new Entry(compiled, source, group));
+        String key = modelKey(compiled.getModel().getNamespace(), compiled.getModel().getName());
+        CompiledDmnModel sameName = modelsByName.put(key, compiled);
+        if (sameName != null && !sameName.getDmnFile().equals(dmnFile)) {
+            LOG.warnf("DMN model %s is defined by both %s and %s, using %s", key, sameName.getDmnFile(), dmnFile, dmnFile);
+        }
+        if (previous != null) {
+            String previousKey = modelKey(previous.model.getModel().getNamespace(), previous.model.getModel().getName());
+            if (!previousKey.equals(key)) {
+                modelsByName.remove(previousKey, previous.model);
+            }
+        }
+        if (compiledEvent != null) {
+            compiledEvent.fire(new DmnModelCompiledEvent(dmnFile, source.path, compiled, previous == null ? null : previous.model));
+        }
+    }
+
+    /**
+     * Drops every cached model; the next request for a file recompiles it.
+     */
+    public void clear() {
+        models.clear();
+        modelsByName.clear();
+    }
+
+    public DmnRegistryStats getStats() {
+        return new DmnRegistryStats(
+                models.size(),
+                hits.sum(),
+                misses.sum(),
+                compilations.sum(),
+                compileNanos.sum() / 1_000_000,
+                modelsByName.size(),
+                coalesced.sum());
+    }
+
+    /**
+     * The FEEL mode {@code dmnFile} is compiled in when it is not part of a shared runtime.
+     */
+    FeelMode feelMode(String dmnFile) {
+        if (ImageMode.current() == ImageMode.NATIVE_RUN) {
+            return FeelMode.INTERPRETED;
+        }
+        if (config == null) {
+            return feelMode;
+        }
+        return config.getOptionalValue("dmn.feel.mode." + dmnFile, FeelMode.class).orElse(feelMode);
+    }
+
+    CompiledDmnModel compile(String dmnFile, String fingerprint, byte[] content) {
+        return compile(dmnFile, fingerprint, content, feelMode(dmnFile));
+    }
+
+    CompiledDmnModel compile(String dmnFile, String fingerprint, byte[] content, FeelMode mode) {
+        acquireCompilePermit();
+        DmnCompilationEvent event = new DmnCompilationEvent();
+        event.begin();
+        CompiledDmnModel compiled = null;
+        try {
+            compiled = compileWithPermit(dmnFile, fingerprint, content, mode);
+            return compiled;
+        } finally {
+            releaseCompilePermit();
+            event.complete(dmnFile, mode, compiled == null ? List.of() : List.of(compiled.getModel()), compiled != null);
+        }
+    }
+
+    private CompiledDmnModel compileWithPermit(String dmnFile, String fingerprint, byte[] content, FeelMode mode) {
+        long start = System.nanoTime();
+
+        Resource dmnResource = KieServices.Factory.get().getResources().newByteArrayResource(content);
+        dmnResource.setSourcePath(Paths.get(dmnFile).getFileName().toString());
+        dmnResource.setResourceType(ResourceType.DMN);
+
+        DMNRuntime dmnRuntime = runtimeBuilder(mode)
+                .buildConfiguration()
+                .fromResources(List.of(dmnResource))
+                .getOrElseThrow(e -> new RuntimeException("DMN compilation errors: " + e.getMessage(), e));
+
+        // The runtime holds only this file's model
+        List<DMNModel> dmnModels = dmnRuntime.getModels();
+        if (dmnModels == null || dmnModels.isEmpty()) {
+            throw new RuntimeException("No DMN models found in file: " + dmnFile);
+        }
+
+        DMNModel dmnModel = dmnModels.getFirst();
+        requireNoErrors(dmnModel);
+        Map<String, FastDecisionTable> fastDecisionTables = compileFastDecisionTables(dmnModel);
+
+        long elapsed = System.nanoTime() - start;
+        compilations.increment();
+        compileNanos.add(elapsed);
+        return new CompiledDmnModel(dmnFile, fingerprint, dmnRuntime, dmnModel, elapsed, fastDecisionTables, mode);
+    }
+
+    private void acquireCompilePermit() {
+        if (compilePermits != null) {
+            try {
+                compilePermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting to compile", e);
+            }
+        }
+    }
+
+    private void releaseCompilePermit() {
+        if (compilePermits != null) {
+            compilePermits.release();
+        }
+    }
+
+    private static DMNRuntimeBuilder runtimeBuilder(FeelMode mode) {
+        DMNRuntimeBuilder builder = DMNRuntimeBuilder.fromDefaults();
+        if (mode == FeelMode.COMPILED) {
+            builder.addProfile(new CompiledFeelProfile());
+        }
+        return builder;
+    }
+
+    /**
+     * Rejects a model the compiler reported errors for; the runtime builder returns those models anyway.
+     */
+    private static void requireNoErrors(DMNModel dmnModel) {
+        if (dmnModel.hasErrors()) {
+            throw new RuntimeException("DMN compilation errors: " + dmnModel.getMessages(DMNMessage.Severity.ERROR));
+        }
+    }
+
+    private static Map<String, FastDecisionTable> compileFastDecisionTables(DMNModel dmnModel) {
+        Map<String, FastDecisionTable> tables = new HashMap<>();
+        for (DecisionNode decision : dmnModel.getDecisions()) {
+            try {
+                FastDecisionTable.compile(dmnModel, decision).ifPresent(table -> tables.put(decision.getName(), table));
+            } catch (Exception e) {
+                // The engine still evaluates the decision; the fast path is only an optimization
+                LOG.debugf(e, "Decision %s does not qualify for the fast path", decision.getName());
+            }
+        }
+        return tables;
+    }
+
+    DmnSource resolve(String dmnFilePath) {
+        try {
+            // Filesystem paths take precedence over the classpath, either as given or relative to src/main/resources
+            Path path = Paths.get(dmnFilePath);
+            if (!Files.exists(path)) {
+                path = Paths.get("src/main/resources/" + dmnFilePath);
+            }
+            if (Files.exists(path)) {
+                path = path.toAbsolutePath().normalize();
+                return new DmnSource(path, Files.readAllBytes(path), Files.getLastModifiedTime(path).toMillis(), Files.size(path));
+            }
+
+            try (InputStream dmnStream = getClass().getClassLoader().getResourceAsStream(dmnFilePath)) {
+                if (dmnStream == null) {
+                    throw new RuntimeException("DMN file not found: " + dmnFilePath);
+                }
+                return new DmnSource(null, dmnStream.readAllBytes(), 0L, 0L);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read DMN file " + dmnFilePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    static String fingerprint(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Raw DMN content and, for filesystem sources, the stamp used to detect changes.
+     */
+    static final class DmnSource {
+
+        final Path path;
+        final byte[] content;
+        final long lastModified;
+        final long size;
+
+        DmnSource(Path path, byte[] content, long lastModified, long size) {
+            this.path = path;
+            this.content = content;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Files compiled together into one shared runtime.
+     */
+    private static final class SharedGroup {
+
+        final List<String> dmnFiles;
+
+        SharedGroup(List<String> dmnFiles) {
+            this.dmnFiles = dmnFiles;
+        }
+    }
+
+    private static final class Entry {
+
+        final CompiledDmnModel model;
+        final Path path;
+        final long lastModified;
+        final long size;
+        final SharedGroup group;
+
+        Entry(CompiledDmnModel model, DmnSource source, SharedGroup group) {
+            this.model = model;
+            this.group = group;
+            this.path = source.path;
+            this.lastModified = source.lastModified;
+            this.size = source.size;
+        }
+
+        boolean isCurrent() {
+            if (path == null) {
+                // Classpath resources cannot change while the application is running
+                return true;
+            }
+            try {
+                return Files.exists(path)
+                        && Files.getLastModifiedTime(path).toMillis() == lastModified
+                        && Files.size(path) == size;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
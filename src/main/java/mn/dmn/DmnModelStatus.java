@@ -0,0 +1,66 @@
+package mn.dmn;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+public class DmnModelStatus {
+
+    public enum State {
+        PENDING,
+        COMPILING,
+        READY,
+        FAILED
+    }
+
+    @JsonbProperty("dmnFile")
+    private String dmnFile;
+
+    @JsonbProperty("state")
+    private State state;
+
+    @JsonbProperty("compileTimeMs")
+    private Long compileTimeMs;
+
+    @JsonbProperty("error")
+    private String error;
+
+    public DmnModelStatus() {}
+
+    public DmnModelStatus(String dmnFile, State state, Long compileTimeMs, String error) {
+        this.dmnFile = dmnFile;
+        this.state = state;
+        this.compileTimeMs = compileTimeMs;
+        this.error = error;
+    }
+
+    public String getDmnFile() {
+        return dmnFile;
+    }
+
+    public void setDmnFile(String dmnFile) {
+        this.dmnFile = dmnFile;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    public Long getCompileTimeMs() {
+        return compileTimeMs;
+    }
+
+    public void setCompileTimeMs(Long compileTimeMs) {
+        this.compileTimeMs = compileTimeMs;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
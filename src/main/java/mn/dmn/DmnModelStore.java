@@ -0,0 +1,506 @@
+package mn.dmn;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.kie.dmn.api.core.ast.DecisionNode;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * DMN models deployed through {@code POST /dmn/models}, compiled once at upload
+ * and evaluated by id instead of by file path.
+ *
+ * <p>Every upload of a model id becomes a new numbered version. Requests use the
+ * pinned version if there is one, otherwise the latest; both lookups are a single
+ * map read, so nothing is resolved, read or compiled on the request path. Uploading
+ * the same content as the latest version again does not create a new version. At
+ * most {@code dmn.models.max-versions} versions are kept per id; the oldest unpinned
+ * ones are dropped first.</p>
+ *
+ * <p>With {@code dmn.artifacts.dir} set, every version is kept in the
+ * {@link DmnArtifactStore} and compiled again at startup, in parallel; the service
+ * is not ready until that has finished. Content of dropped and deleted versions is
+ * removed from it.</p>
+ */
+@ApplicationScoped
+public class DmnModelStore {
+
+    private static final Logger LOG = Logger.getLogger(DmnModelStore.class);
+
+    // Keys of the version index kept in the artifact store
+    private static final String INDEX_NEXT_VERSION = "next-version";
+    private static final String INDEX_PINNED = "pinned";
+    private static final String INDEX_VERSION = "version.";
+    private static final String INDEX_DEPLOYED_AT = ".deployed-at";
+
+    private static final Pattern MODEL_ID = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,127}");
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @Inject
+    DmnResultCache resultCache;
+
+    @Inject
+    DmnMetrics metrics;
+
+    @Inject
+    DmnArtifactStore artifactStore;
+
+    @Inject
+    DmnBulkheads bulkheads;
+
+    @ConfigProperty(name = "dmn.models.max-versions", defaultValue = "10")
+    int maxVersions;
+
+    @ConfigProperty(name = "dmn.preload.threads", defaultValue = "0")
+    int restoreThreads;
+
+    private final ConcurrentMap<String, Deployment> deployments = new ConcurrentHashMap<>();
+    // Held while content is stored and its version added, so pruning never removes it in between
+    private final Object artifactLock = new Object();
+
+    private volatile boolean restoreComplete;
+
+    /**
+     * Compiles {@code content} and deploys it as the next version of {@code id}, or
+     * of an id derived from the DMN model name when {@code id} is {@code null}.
+     *
+     * @throws IllegalArgumentException if the id is invalid or the content does not compile
+     */
+    public DmnModelInfo deploy(String id, byte[] content) {
+        if (content == null || content.length == 0) {
+            throw new IllegalArgumentException("DMN content is required");
+        }
+        if (id != null && !MODEL_ID.matcher(id).matches()) {
+            throw new IllegalArgumentException("Invalid model id: " + id);
+        }
+
+        String fingerprint = DmnModelRegistry.fingerprint(content);
+        String dmnFile = id != null ? dmnFile(id) : "models/upload.dmn";
+        CompiledDmnModel compiled;
+        long start = System.nanoTime();
+        try {
+            compiled = modelRegistry.compile(dmnFile, fingerprint, content);
+        } catch (RuntimeException e) {
+            metrics.recordCompile(dmnFile, System.nanoTime() - start, false);
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+
+        String modelId = id != null ? id : idFor(compiled.getModel().getName());
+        if (id == null) {
+            // The id is only known once compiled; metrics, bulkheads and FEEL mode overrides are keyed by it
+            compiled = compileAs(dmnFile(modelId), fingerprint, content, compiled);
+        }
+        metrics.recordCompile(compiled.getDmnFile(), compiled.getCompileNanos(), true);
+
+        CompiledDmnModel model = compiled;
+        List<Version> dropped = new ArrayList<>();
+        Deployment deployment;
+        synchronized (artifactLock) {
+            artifactStore.store(fingerprint, content);
+            // Adding within compute keeps a concurrent delete of the id from discarding this version
+            deployment = deployments.compute(modelId, (key, existing) -> {
+                Deployment target = existing != null ? existing : new Deployment(key);
+                dropped.addAll(target.add(model));
+                return target;
+            });
+        }
+        for (Version version : dropped) {
+            resultCache.invalidate(version.model.getFingerprint());
+        }
+        if (!dropped.isEmpty()) {
+            pruneArtifacts();
+        }
+        LOG.infof("Deployed DMN model %s version %d (fingerprint %s)", modelId, deployment.latest().number, fingerprint);
+        return deployment.toInfo();
+    }
+
+    /**
+     * Restores the models deployed before a restart from the artifact store, with
+     * their version numbers and pins. Versions whose artifact is missing are skipped.
+     */
+    void onStart(@Observes StartupEvent event) {
+        restore();
+    }
+
+    /**
+     * Whether the deployments of the previous run have been restored; until then
+     * requests for them would not find a model.
+     */
+    public boolean isRestored() {
+        return restoreComplete;
+    }
+
+    void restore() {
+        restoreComplete = false;
+        try {
+            restoreDeployments();
+        } finally {
+            restoreComplete = true;
+        }
+    }
+
+    private void restoreDeployments() {
+        if (!artifactStore.isEnabled()) {
+            return;
+        }
+        List<String> ids;
+        try {
+            ids = artifactStore.deploymentIds();
+        } catch (IOException e) {
+            LOG.warnf(e, "Unable to list deployed DMN models");
+            return;
+        }
+        long start = System.nanoTime();
+        Map<Deployment, Properties> indexes = new LinkedHashMap<>();
+        List<Runnable> versions = new ArrayList<>();
+        AtomicInteger restored = new AtomicInteger();
+        for (String id : ids) {
+            Properties index = artifactStore.loadDeployment(id);
+            if (index == null || !MODEL_ID.matcher(id).matches()) {
+                continue;
+            }
+            Deployment deployment = new Deployment(id);
+            indexes.put(deployment, index);
+            for (String key : index.stringPropertyNames()) {
+                if (key.startsWith(INDEX_VERSION) && !key.endsWith(INDEX_DEPLOYED_AT)) {
+                    versions.add(() -> {
+                        if (restoreVersion(deployment, index, key)) {
+                            restored.incrementAndGet();
+                        }
+                    });
+                }
+            }
+        }
+
+        // Versions compile independently, so a restart with many of them is bounded by the slowest, not the sum
+        int poolSize = restoreThreads > 0 ? restoreThreads : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(poolSize, versions.size())));
+        try {
+            CompletableFuture.allOf(versions.stream()
+                    .map(version -> CompletableFuture.runAsync(version, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        indexes.forEach((deployment, index) -> {
+            deployment.restoreIndex(index);
+            if (!deployment.versions.isEmpty()) {
+                deployments.put(deployment.id, deployment);
+            }
+        });
+        // Leaves out content of versions dropped while the service was down or that did not restore
+        pruneArtifacts();
+        LOG.infof("Restored %d version(s) of %d deployed DMN model(s) in %d ms",
+                restored.get(), deployments.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private boolean restoreVersion(Deployment deployment, Properties index, String key) {
+        String fingerprint = index.getProperty(key);
+        Optional<byte[]> content = artifactStore.load(fingerprint);
+        if (content.isEmpty()) {
+            LOG.warnf("Artifact %s of deployed model %s is missing, skipping %s", fingerprint, deployment.id, key);
+            return false;
+        }
+        try {
+            int number = Integer.parseInt(key.substring(INDEX_VERSION.length()));
+            Instant deployedAt = Instant.parse(index.getProperty(key + INDEX_DEPLOYED_AT, Instant.now().toString()));
+            CompiledDmnModel compiled = modelRegistry.compile(dmnFile(deployment.id), fingerprint, content.get());
+            deployment.restore(new Version(number, compiled, deployedAt));
+            return true;
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Unable to restore %s of deployed model %s", key, deployment.id);
+            return false;
+        }
+    }
+
+    /**
+     * The version of {@code id} requests are evaluated against: {@code version} if
+     * given, otherwise the pinned or latest one. {@code null} if there is none.
+     */
+    public CompiledDmnModel get(String id, Integer version) {
+        Deployment deployment = deployments.get(id);
+        if (deployment == null) {
+            return null;
+        }
+        Version resolved = version != null ? deployment.versions.get(version) : deployment.active;
+        return resolved == null ? null : resolved.model;
+    }
+
+    public DmnModelInfo getInfo(String id) {
+        Deployment deployment = deployments.get(id);
+        DmnModelInfo info = deployment == null ? null : deployment.toInfo();
+        return info == null || info.getVersions().isEmpty() ? null : info;
+    }
+
+    public List<DmnModelInfo> list() {
+        return deployments.values().stream()
+                .map(Deployment::toInfo)
+                .filter(info -> !info.getVersions().isEmpty())
+                .sorted(Comparator.comparing(DmnModelInfo::getId))
+                .toList();
+    }
+
+    /**
+     * Makes requests without an explicit version use {@code version} until it is unpinned.
+     *
+     * @return the updated model, or {@code null} if the id or version does not exist
+     */
+    public DmnModelInfo pin(String id, int version) {
+        Deployment deployment = deployments.get(id);
+        return deployment != null && deployment.pin(version) ? deployment.toInfo() : null;
+    }
+
+    public DmnModelInfo unpin(String id) {
+        Deployment deployment = deployments.get(id);
+        if (deployment == null) {
+            return null;
+        }
+        deployment.pin(null);
+        return deployment.toInfo();
+    }
+
+    /**
+     * Removes every version of {@code id}. Evaluations already running finish on the model they hold.
+     */
+    public boolean delete(String id) {
+        Deployment deployment = deployments.remove(id);
+        if (deployment == null) {
+            return false;
+        }
+        artifactStore.deleteDeployment(id);
+        deployment.versions.values().forEach(version -> resultCache.invalidate(version.model.getFingerprint()));
+        if (bulkheads != null) {
+            bulkheads.remove(dmnFile(id));
+        }
+        pruneArtifacts();
+        return true;
+    }
+
+    /**
+     * Removes one version of {@code id}.
+     *
+     * @throws IllegalStateException if the version is pinned
+     */
+    public boolean delete(String id, int version) {
+        Deployment deployment = deployments.get(id);
+        if (deployment == null) {
+            return false;
+        }
+        Version removed = deployment.remove(version);
+        if (removed == null) {
+            return false;
+        }
+        resultCache.invalidate(removed.model.getFingerprint());
+        pruneArtifacts();
+        return true;
+    }
+
+    /**
+     * Removes stored content no deployed version refers to; several versions and ids may share one.
+     */
+    private void pruneArtifacts() {
+        if (!artifactStore.isEnabled()) {
+            return;
+        }
+        synchronized (artifactLock) {
+            Set<String> fingerprints = new HashSet<>();
+            for (Deployment deployment : deployments.values()) {
+                deployment.versions.values().forEach(version -> fingerprints.add(version.model.getFingerprint()));
+            }
+            artifactStore.retainOnly(fingerprints);
+        }
+    }
+
+    static String dmnFile(String id) {
+        return "models/" + id;
+    }
+
+    /**
+     * Rekeys a model compiled before its id was known, recompiling it when the FEEL
+     * mode configured for {@code dmnFile} differs from the one it was compiled in.
+     */
+    private CompiledDmnModel compileAs(String dmnFile, String fingerprint, byte[] content, CompiledDmnModel compiled) {
+        DmnModelRegistry.FeelMode mode = modelRegistry.feelMode(dmnFile);
+        if (mode == compiled.getFeelMode()) {
+            return compiled.withDmnFile(dmnFile);
+        }
+        long start = System.nanoTime();
+        try {
+            return modelRegistry.compile(dmnFile, fingerprint, content, mode);
+        } catch (RuntimeException e) {
+            metrics.recordCompile(dmnFile, System.nanoTime() - start, false);
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    // Lower-case model name with anything outside [a-z0-9._-] replaced, e.g. "Loan Approval" -> "loan-approval"
+    static String idFor(String modelName) {
+        String id = modelName == null ? "" : modelName.trim().toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9._-]+", "-")
+                .replaceAll("^[-._]+|-+$", "");
+        if (id.length() > 128) {
+            id = id.substring(0, 128);
+        }
+        return id.isEmpty() ? "model" : id;
+    }
+
+    private static final class Version {
+
+        final int number;
+        final CompiledDmnModel model;
+        final Instant deployedAt;
+
+        Version(int number, CompiledDmnModel model, Instant deployedAt) {
+            this.number = number;
+            this.model = model;
+            this.deployedAt = deployedAt;
+        }
+
+        DmnModelInfo.Version toInfo() {
+            List<String> decisions = new ArrayList<>();
+            for (DecisionNode decision : model.getModel().getDecisions()) {
+                decisions.add(decision.getName());
+            }
+            return new DmnModelInfo.Version(number, model.getFingerprint(), deployedAt.toString(),
+                    model.getCompileNanos() / 1_000_000, decisions);
+        }
+    }
+
+    private final class Deployment {
+
+        final String id;
+        final ConcurrentSkipListMap<Integer, Version> versions = new ConcurrentSkipListMap<>();
+
+        // Written under the lock, read without it on the request path
+        volatile Version active;
+        volatile Integer pinned;
+
+        private int nextVersion = 1;
+
+        Deployment(String id) {
+            this.id = id;
+        }
+
+        synchronized List<Version> add(CompiledDmnModel model) {
+            Map.Entry<Integer, Version> latest = versions.lastEntry();
+            if (latest != null && latest.getValue().model.getFingerprint().equals(model.getFingerprint())) {
+                return List.of();
+            }
+            Version version = new Version(nextVersion++, model, Instant.now());
+            versions.put(version.number, version);
+
+            List<Version> dropped = new ArrayList<>();
+            for (Integer number : versions.keySet()) {
+                if (versions.size() <= Math.max(1, maxVersions)) {
+                    break;
+                }
+                if (!number.equals(pinned)) {
+                    dropped.add(versions.remove(number));
+                }
+            }
+            updateActive();
+            persist();
+            return dropped;
+        }
+
+        synchronized void restore(Version version) {
+            versions.put(version.number, version);
+            nextVersion = Math.max(nextVersion, version.number + 1);
+            updateActive();
+        }
+
+        synchronized void restoreIndex(Properties index) {
+            // Numbers of deleted versions are not handed out again
+            nextVersion = Math.max(nextVersion, Integer.parseInt(index.getProperty(INDEX_NEXT_VERSION, "1")));
+            String pinnedVersion = index.getProperty(INDEX_PINNED);
+            if (pinnedVersion != null && versions.containsKey(Integer.parseInt(pinnedVersion))) {
+                pinned = Integer.parseInt(pinnedVersion);
+            }
+            updateActive();
+        }
+
+        synchronized boolean pin(Integer version) {
+            if (version != null && !versions.containsKey(version)) {
+                return false;
+            }
+            pinned = version;
+            updateActive();
+            persist();
+            return true;
+        }
+
+        synchronized Version remove(int version) {
+            if (pinned != null && pinned == version) {
+                throw new IllegalStateException("Version " + version + " of model " + id + " is pinned, unpin it first");
+            }
+            Version removed = versions.remove(version);
+            updateActive();
+            persist();
+            return removed;
+        }
+
+        Version latest() {
+            Map.Entry<Integer, Version> latest = versions.lastEntry();
+            return latest == null ? null : latest.getValue();
+        }
+
+        private void updateActive() {
+            active = pinned != null ? versions.get(pinned) : latest();
+        }
+
+        // Called under the lock, so the index on disk never goes back to an older state
+        private void persist() {
+            if (!artifactStore.isEnabled()) {
+                return;
+            }
+            Properties index = new Properties();
+            index.setProperty(INDEX_NEXT_VERSION, Integer.toString(nextVersion));
+            if (pinned != null) {
+                index.setProperty(INDEX_PINNED, pinned.toString());
+            }
+            for (Version version : versions.values()) {
+                index.setProperty(INDEX_VERSION + version.number, version.model.getFingerprint());
+                index.setProperty(INDEX_VERSION + version.number + INDEX_DEPLOYED_AT, version.deployedAt.toString());
+            }
+            artifactStore.storeDeployment(id, index);
+        }
+
+        synchronized DmnModelInfo toInfo() {
+            Version current = active;
+            Version latest = latest();
+            String name = latest == null ? null : latest.model.getModel().getName();
+            String namespace = latest == null ? null : latest.model.getModel().getNamespace();
+            return new DmnModelInfo(id, name, namespace,
+                    current == null ? null : current.number,
+                    latest == null ? null : latest.number,
+                    pinned,
+                    versions.values().stream().map(Version::toInfo).toList());
+        }
+    }
+}
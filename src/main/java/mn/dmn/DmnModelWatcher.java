@@ -0,0 +1,215 @@
+package mn.dmn;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the directories of filesystem DMN models and recompiles a model in the
+ * background when its file changes.
+ *
+ * <p>Every model the {@link DmnModelRegistry} compiles from the filesystem is
+ * registered here. Change notifications are debounced, since editors and copy
+ * tools usually produce several events per save, and the recompilation runs on a
+ * dedicated thread so requests never wait for it.</p>
+ *
+ * <p>When a watched file is deleted, or events of its directory were lost, the
+ * registry goes back to checking it on disk for each request until a reload succeeds.
+ * Symlinked files, such as a mounted Kubernetes ConfigMap, are also watched at their
+ * real path, and any change next to the link, like the swap of {@code ..data},
+ * reloads them.</p>
+ */
+@ApplicationScoped
+public class DmnModelWatcher {
+
+    private static final Logger LOG = Logger.getLogger(DmnModelWatcher.class);
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @ConfigProperty(name = "dmn.watch.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "dmn.watch.debounce-ms", defaultValue = "200")
+    long debounceMs;
+
+    /** Requested dmnFile keys per watched absolute source path. */
+    private final ConcurrentMap<Path, Set<String>> watchedFiles = new ConcurrentHashMap<>();
+    /** Watched source path -> the file it resolved to through symlinks when last loaded. */
+    private final ConcurrentMap<Path, Path> realPaths = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Path, WatchKey> watchedDirectories = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Path, ScheduledFuture<?>> pendingReloads = new ConcurrentHashMap<>();
+
+    private WatchService watchService;
+    private ScheduledExecutorService reloader;
+    private Thread watcherThread;
+
+    void onModelCompiled(@Observes DmnModelCompiledEvent event) {
+        if (event.getPrevious() != null) {
+            LOG.infof("Swapped in recompiled DMN model %s (fingerprint %s)", event.getDmnFile(), event.getModel().getFingerprint());
+        }
+        if (enabled && event.getSourcePath() != null) {
+            watch(event.getDmnFile(), event.getSourcePath());
+        }
+    }
+
+    void watch(String dmnFile, Path sourcePath) {
+        Path file = sourcePath.toAbsolutePath().normalize();
+        Path directory = file.getParent();
+        try {
+            WatchService service = ensureStarted();
+            watchDirectory(service, directory);
+            Path real = file.toRealPath();
+            if (!real.equals(file)) {
+                watchDirectory(service, real.getParent());
+            }
+            realPaths.put(file, real);
+            watchedFiles.computeIfAbsent(file, f -> ConcurrentHashMap.newKeySet()).add(dmnFile);
+            modelRegistry.markWatched(file);
+        } catch (Exception e) {
+            // Without a watch the registry keeps checking the file on each request
+            LOG.warnf(e, "Unable to watch DMN file %s for changes", file);
+        }
+    }
+
+    private synchronized WatchService ensureStarted() throws IOException {
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+            reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dmn-model-reloader");
+                thread.setDaemon(true);
+                return thread;
+            });
+            watcherThread = new Thread(this::run, "dmn-model-watcher");
+            watcherThread.setDaemon(true);
+            watcherThread.start();
+        }
+        return watchService;
+    }
+
+    private void watchDirectory(WatchService service, Path directory) {
+        if (!watchedDirectories.containsKey(directory)) {
+            watchedDirectories.computeIfAbsent(directory, dir -> register(service, dir));
+        }
+    }
+
+    private static WatchKey register(WatchService service, Path directory) {
+        try {
+            return directory.register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot watch " + directory + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Events were lost; requests check these files on disk until they are reloaded
+                        for (Path file : affectedFiles(directory, null)) {
+                            modelRegistry.unmarkWatched(file);
+                            scheduleReload(file);
+                        }
+                        continue;
+                    }
+                    Path changed = directory.resolve((Path) event.context());
+                    for (Path file : affectedFiles(directory, changed)) {
+                        if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE
+                                && (changed.equals(file) || changed.equals(realPaths.get(file)))) {
+                            // A reload cannot succeed without the file, so stop serving it unchecked
+                            modelRegistry.unmarkWatched(file);
+                        }
+                        scheduleReload(file);
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Shutting down
+        }
+    }
+
+    /**
+     * The watched files an event in {@code directory} may have changed; every file of
+     * the directory when {@code changed} is {@code null}.
+     */
+    private List<Path> affectedFiles(Path directory, Path changed) {
+        List<Path> affected = new ArrayList<>();
+        for (Path file : watchedFiles.keySet()) {
+            Path real = realPaths.getOrDefault(file, file);
+            boolean inDirectory = file.getParent().equals(directory) || real.getParent().equals(directory);
+            if (changed == null ? inDirectory
+                    : changed.equals(file) || changed.equals(real)
+                    // A link next to a symlinked file may have been swapped to a new target
+                    || (!real.equals(file) && file.getParent().equals(directory))) {
+                affected.add(file);
+            }
+        }
+        return affected;
+    }
+
+    private void scheduleReload(Path file) {
+        pendingReloads.compute(file, (f, pending) -> {
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            return reloader.schedule(() -> reload(f), debounceMs, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private void reload(Path file) {
+        pendingReloads.remove(file);
+        for (String dmnFile : watchedFiles.getOrDefault(file, Set.of())) {
+            try {
+                modelRegistry.reload(dmnFile);
+                // Marks the file again after a deletion or lost events, and follows a new link target
+                watch(dmnFile, file);
+            } catch (Exception e) {
+                LOG.errorf(e, "Failed to reload DMN model %s, keeping the previous version", dmnFile);
+            }
+        }
+    }
+
+    @PreDestroy
+    synchronized void stop() {
+        if (watchService == null) {
+            return;
+        }
+        watcherThread.interrupt();
+        reloader.shutdownNow();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOG.debugf(e, "Error closing DMN watch service");
+        }
+    }
+}
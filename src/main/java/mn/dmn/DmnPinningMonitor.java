@@ -0,0 +1,142 @@
+package mn.dmn;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records where virtual threads get pinned to their carrier, using the JFR
+ * {@code jdk.VirtualThreadPinned} event, so blocking inside {@code synchronized}
+ * sections of the KIE engine shows up with the code location responsible.
+ *
+ * <p>Only active with {@code dmn.execution.mode=virtual}. Pinned events are grouped
+ * by the first stack frame outside the JDK.</p>
+ */
+@ApplicationScoped
+public class DmnPinningMonitor {
+
+    private static final Logger LOG = Logger.getLogger(DmnPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 8;
+
+    @Inject
+    DmnEvaluationExecutor evaluationExecutor;
+
+    @ConfigProperty(name = "dmn.execution.pinning-monitor.enabled", defaultValue = "true")
+    boolean enabled;
+
+    // JFR only reports pins that last at least this long
+    @ConfigProperty(name = "dmn.execution.pinning-monitor.threshold-ms", defaultValue = "20")
+    long thresholdMs;
+
+    private final ConcurrentMap<String, Site> sites = new ConcurrentHashMap<>();
+    private final LongAdder events = new LongAdder();
+
+    private volatile RecordingStream recording;
+
+    void onStart(@Observes StartupEvent event) {
+        if (enabled && evaluationExecutor.getMode() == DmnEvaluationExecutor.Mode.VIRTUAL) {
+            start();
+        }
+    }
+
+    synchronized void start() {
+        if (recording != null) {
+            return;
+        }
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::record);
+            stream.startAsync();
+            recording = stream;
+            LOG.infof("Recording virtual thread pinning longer than %d ms", thresholdMs);
+        } catch (RuntimeException e) {
+            // JFR may be unavailable, e.g. in some native images
+            LOG.warnf(e, "Unable to record virtual thread pinning");
+        }
+    }
+
+    @PreDestroy
+    synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        events.increment();
+        List<String> frames = frames(event.getStackTrace());
+        String location = frames.stream()
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun."))
+                .findFirst()
+                .orElse(frames.isEmpty() ? "unknown" : frames.getFirst());
+        sites.computeIfAbsent(location, l -> new Site(frames)).add(event.getDuration());
+    }
+
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        List<String> frames = new ArrayList<>();
+        if (stackTrace == null) {
+            return frames;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frames.size() == STACK_DEPTH) {
+                break;
+            }
+            if (frame.isJavaFrame()) {
+                frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber());
+            }
+        }
+        return frames;
+    }
+
+    public DmnPinningReport getReport() {
+        List<DmnPinningReport.Site> report = sites.entrySet().stream()
+                .map(entry -> entry.getValue().toReport(entry.getKey()))
+                .sorted(Comparator.comparingDouble(DmnPinningReport.Site::getTotalMs).reversed())
+                .toList();
+        return new DmnPinningReport(evaluationExecutor.getMode().name().toLowerCase(), recording != null, thresholdMs, events.sum(), report);
+    }
+
+    private static final class Site {
+
+        final List<String> stack;
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+
+        Site(List<String> stack) {
+            this.stack = List.copyOf(stack);
+        }
+
+        void add(Duration duration) {
+            long nanos = duration.toNanos();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        DmnPinningReport.Site toReport(String location) {
+            return new DmnPinningReport.Site(location, count.sum(), totalNanos.sum() / 1_000_000.0, maxNanos.get() / 1_000_000.0, stack);
+        }
+    }
+}
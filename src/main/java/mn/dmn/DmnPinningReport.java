@@ -0,0 +1,144 @@
+package mn.dmn;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import java.util.List;
+
+public class DmnPinningReport {
+
+    @JsonbProperty("mode")
+    private String mode;
+
+    @JsonbProperty("recording")
+    private boolean recording;
+
+    @JsonbProperty("thresholdMs")
+    private long thresholdMs;
+
+    @JsonbProperty("pinnedEvents")
+    private long pinnedEvents;
+
+    @JsonbProperty("sites")
+    private List<Site> sites;
+
+    public DmnPinningReport() {}
+
+    public DmnPinningReport(String mode, boolean recording, long thresholdMs, long pinnedEvents, List<Site> sites) {
+        this.mode = mode;
+        this.recording = recording;
+        this.thresholdMs = thresholdMs;
+        this.pinnedEvents = pinnedEvents;
+        this.sites = sites;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    public long getThresholdMs() {
+        return thresholdMs;
+    }
+
+    public void setThresholdMs(long thresholdMs) {
+        this.thresholdMs = thresholdMs;
+    }
+
+    public long getPinnedEvents() {
+        return pinnedEvents;
+    }
+
+    public void setPinnedEvents(long pinnedEvents) {
+        this.pinnedEvents = pinnedEvents;
+    }
+
+    public List<Site> getSites() {
+        return sites;
+    }
+
+    public void setSites(List<Site> sites) {
+        this.sites = sites;
+    }
+
+    /**
+     * Pinned events grouped by the first stack frame outside the JDK.
+     */
+    public static class Site {
+
+        @JsonbProperty("location")
+        private String location;
+
+        @JsonbProperty("count")
+        private long count;
+
+        @JsonbProperty("totalMs")
+        private double totalMs;
+
+        @JsonbProperty("maxMs")
+        private double maxMs;
+
+        @JsonbProperty("stack")
+        private List<String> stack;
+
+        public Site() {}
+
+        public Site(String location, long count, double totalMs, double maxMs, List<String> stack) {
+            this.location = location;
+            this.count = count;
+            this.totalMs = totalMs;
+            this.maxMs = maxMs;
+            this.stack = stack;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public double getTotalMs() {
+            return totalMs;
+        }
+
+        public void setTotalMs(double totalMs) {
+            this.totalMs = totalMs;
+        }
+
+        public double getMaxMs() {
+            return maxMs;
+        }
+
+        public void setMaxMs(double maxMs) {
+            this.maxMs = maxMs;
+        }
+
+        public List<String> getStack() {
+            return stack;
+        }
+
+        public void setStack(List<String> stack) {
+            this.stack = stack;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package mn.dmn;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+public class DmnRegistryStats {
+
+    @JsonbProperty("cachedModels")
+    private int cachedModels;
+
+    @JsonbProperty("hits")
+    private long hits;
+
+    @JsonbProperty("misses")
+    private long misses;
+
+    @JsonbProperty("compilations")
+    private long compilations;
+
+    @JsonbProperty("compileTimeMs")
+    private long compileTimeMs;
+
+    @JsonbProperty("indexedModels")
+    private int indexedModels;
+
+    @JsonbProperty("coalescedCompilations")
+    private long coalescedCompilations;
+
+    public DmnRegistryStats() {}
+
+    public DmnRegistryStats(int cachedModels, long hits, long misses, long compilations, long compileTimeMs,
+                            int indexedModels, long coalescedCompilations) {
+        this.cachedModels = cachedModels;
+        this.hits = hits;
+        this.misses = misses;
+        this.compilations = compilations;
+        this.compileTimeMs = compileTimeMs;
+        this.indexedModels = indexedModels;
+        this.coalescedCompilations = coalescedCompilations;
+    }
+
+    public int getCachedModels() {
+        return cachedModels;
+    }
+
+    public void setCachedModels(int cachedModels) {
+        this.cachedModels = cachedModels;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
+    public long getCompilations() {
+        return compilations;
+    }
+
+    public void setCompilations(long compilations) {
+        this.compilations = compilations;
+    }
+
+    public long getCompileTimeMs() {
+        return compileTimeMs;
+    }
+
+    public void setCompileTimeMs(long compileTimeMs) {
+        this.compileTimeMs = compileTimeMs;
+    }
+
+    public int getIndexedModels() {
+        return indexedModels;
+    }
+
+    public void setIndexedModels(int indexedModels) {
+        this.indexedModels = indexedModels;
+    }
+
+    public long getCoalescedCompilations() {
+        return coalescedCompilations;
+    }
+
+    public void setCoalescedCompilations(long coalescedCompilations) {
+        this.coalescedCompilations = coalescedCompilations;
+    }
+}
@@ -2,6 +2,7 @@ package mn.dmn;
 
 import jakarta.json.bind.annotation.JsonbProperty;
 
+import java.util.List;
 import java.util.Map;
 
 public class DmnRequest {
@@ -9,9 +10,18 @@ public class DmnRequest {
     @JsonbProperty("dmnFile")
     private String dmnFile;
 
+    @JsonbProperty("namespace")
+    private String namespace;
+
+    @JsonbProperty("modelName")
+    private String modelName;
+
     @JsonbProperty("decisionName")
     private String decisionName;
 
+    @JsonbProperty("decisionNames")
+    private List<String> decisionNames;
+
     @JsonbProperty("inputData")
     private Map<String, Object> inputData;
 
@@ -39,6 +49,22 @@ public class DmnRequest {
         this.decisionName = decisionName;
     }
 
+    public List<String> getDecisionNames() {
+        return decisionNames;
+    }
+
+    public void setDecisionNames(List<String> decisionNames) {
+        this.decisionNames = decisionNames;
+    }
+
+    /**
+     * Whether the request selects several decisions with {@code decisionNames}, which then take
+     * precedence over {@code decisionName}.
+     */
+    public boolean hasDecisionNames() {
+        return decisionNames != null && !decisionNames.isEmpty();
+    }
+
     public Map<String, Object> getInputData() {
         return inputData;
     }
@@ -46,4 +72,28 @@ public class DmnRequest {
     public void setInputData(Map<String, Object> inputData) {
         this.inputData = inputData;
     }
-}
\ No newline at end of file
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public void setNamespace(String namespace) {
+        this.namespace = namespace;
+    }
+
+    public String getModelName() {
+        return modelName;
+    }
+
+    public void setModelName(String modelName) {
+        this.modelName = modelName;
+    }
+
+    /**
+     * Whether the request names its model by DMN namespace and name instead of by file.
+     */
+    public boolean hasModelName() {
+        return (dmnFile == null || dmnFile.trim().isEmpty())
+                && namespace != null && !namespace.isBlank() && modelName != null && !modelName.isBlank();
+    }
+}
@@ -1,6 +1,9 @@
 package mn.dmn;
 
 import jakarta.json.bind.annotation.JsonbProperty;
+import jakarta.json.bind.annotation.JsonbTransient;
+
+import java.util.List;
 
 public class DmnResponse {
 
@@ -16,6 +19,24 @@ public class DmnResponse {
     @JsonbProperty("error")
     private String error;
 
+    // One response per decision of a decisionNames request, in request order
+    @JsonbProperty("decisions")
+    private List<DmnResponse> decisions;
+
+    // Typed output of the decision, only set for responses that asked for it with includeValue
+    @JsonbProperty("value")
+    private Object output;
+
+    // Source of a reason that is only formatted when someone reads it
+    @JsonbTransient
+    private String decisionName;
+
+    @JsonbTransient
+    private Object value;
+
+    @JsonbTransient
+    private boolean lazyReason;
+
     public DmnResponse() {}
 
     public DmnResponse(boolean result, String reason) {
@@ -25,6 +46,18 @@ public class DmnResponse {
         this.error = null;
     }
 
+    /**
+     * A successful evaluation whose reason, {@code "Decision 'name' evaluated - Result: value"},
+     * is only built when it is read, without changing the response. {@link DmnResponseWriter} writes it without building it at all.
+     */
+    static DmnResponse evaluated(boolean result, String decisionName, Object value) {
+        DmnResponse response = new DmnResponse(result, null);
+        response.decisionName = decisionName;
+        response.value = value;
+        response.lazyReason = true;
+        return response;
+    }
+
     public DmnResponse(String error) {
         this.result = false;
         this.reason = null;
@@ -41,11 +74,65 @@ public class DmnResponse {
     }
 
     public String getReason() {
-        return reason;
+        // Formatted on every read instead of stored: cached responses are read by many threads
+        return lazyReason ? formatReason(decisionName, value) : reason;
     }
 
     public void setReason(String reason) {
         this.reason = reason;
+        this.lazyReason = false;
+    }
+
+    /**
+     * A copy of this response without its reason, for callers that do not want it.
+     */
+    DmnResponse withoutReason() {
+        return select(false, false);
+    }
+
+    /**
+     * This response as the caller asked for it: with or without the reason, and with
+     * or without the typed output of each decision as {@code value}. Cached responses
+     * are shared, so anything other than the default shape is a copy.
+     */
+    DmnResponse select(boolean includeReason, boolean includeValue) {
+        if (includeReason && !includeValue) {
+            return this;
+        }
+        DmnResponse copy = new DmnResponse();
+        copy.result = result;
+        copy.success = success;
+        copy.error = error;
+        if (includeReason) {
+            copy.reason = reason;
+            copy.decisionName = decisionName;
+            copy.value = value;
+            copy.lazyReason = lazyReason;
+        }
+        if (includeValue) {
+            copy.output = output != null ? output : value;
+        }
+        if (decisions != null) {
+            copy.decisions = decisions.stream().map(decision -> decision.select(includeReason, includeValue)).toList();
+        }
+        return copy;
+    }
+
+    boolean hasLazyReason() {
+        return lazyReason;
+    }
+
+    String getDecisionName() {
+        return decisionName;
+    }
+
+    Object getValue() {
+        return value;
+    }
+
+    static String formatReason(String decisionName, Object value) {
+        String reason = decisionName != null ? "Decision '" + decisionName + "' evaluated" : "Decision evaluated successfully";
+        return value != null ? reason + " - Result: " + value : reason;
     }
 
     public boolean isSuccess() {
@@ -63,4 +150,20 @@ public class DmnResponse {
     public void setError(String error) {
         this.error = error;
     }
+
+    public Object getOutput() {
+        return output;
+    }
+
+    public void setOutput(Object output) {
+        this.output = output;
+    }
+
+    public List<DmnResponse> getDecisions() {
+        return decisions;
+    }
+
+    public void setDecisions(List<DmnResponse> decisions) {
+        this.decisions = decisions;
+    }
 }
@@ -0,0 +1,310 @@
+package mn.dmn;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes {@link DmnResponse} as JSON straight into a reused per-thread byte buffer
+ * instead of going through reflective JSON-B; {@link DmnBatchResponseWriter} does
+ * the same for batches.
+ *
+ * <p>The output is byte for byte what JSON-B produces for these classes: properties
+ * in lexicographic order, {@code null} values omitted. Field names are encoded once,
+ * and a lazily formatted reason ({@link DmnResponse#evaluated}) is written from its
+ * parts without building the intermediate {@code String}.</p>
+ *
+ * <p>A typed {@code value} ({@link DmnResponse#select}) is written straight from the
+ * FEEL result: numbers and booleans as JSON literals, contexts as objects, lists as
+ * arrays, and anything else (dates, durations) as its string form.</p>
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class DmnResponseWriter implements MessageBodyWriter<DmnResponse> {
+
+    private static final byte[] DECISIONS = ascii("\"decisions\":[");
+    private static final byte[] ERROR = ascii("\"error\":");
+    private static final byte[] REASON = ascii("\"reason\":");
+    private static final byte[] RESULT = ascii("\"result\":");
+    private static final byte[] RESULTS = ascii("\"results\":[");
+    private static final byte[] SUCCESS = ascii("\"success\":");
+    private static final byte[] VALUE = ascii("\"value\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] DECISION = ascii("Decision '");
+    private static final byte[] EVALUATED = ascii("' evaluated");
+    private static final byte[] EVALUATED_SUCCESSFULLY = ascii("Decision evaluated successfully");
+    private static final byte[] RESULT_SUFFIX = ascii(" - Result: ");
+
+    // Buffers that grew past this size for one large batch are not kept for the next response
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<Buffer> BUFFERS = ThreadLocal.withInitial(() -> new Buffer(1024));
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == DmnResponse.class;
+    }
+
+    @Override
+    public void writeTo(DmnResponse response, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        Buffer buffer = BUFFERS.get();
+        try {
+            writeResponse(response, buffer);
+            entityStream.write(buffer.bytes, 0, buffer.size);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Writes {@code batch} through the calling thread's buffer.
+     */
+    static void write(DmnBatchResponse batch, OutputStream out) throws IOException {
+        Buffer buffer = BUFFERS.get();
+        try {
+            writeBatch(batch, buffer);
+            out.write(buffer.bytes, 0, buffer.size);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Writes {@code response} as one line of JSON, for NDJSON streams.
+     */
+    public static void writeLine(DmnResponse response, OutputStream out) throws IOException {
+        Buffer buffer = BUFFERS.get();
+        try {
+            writeResponse(response, buffer);
+            buffer.append((byte) '\n');
+            out.write(buffer.bytes, 0, buffer.size);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    static void writeBatch(DmnBatchResponse batch, Buffer buffer) {
+        buffer.append((byte) '{');
+        if (batch.getError() != null) {
+            buffer.append(ERROR).appendString(batch.getError()).append((byte) ',');
+        }
+        List<DmnResponse> results = batch.getResults();
+        if (results != null) {
+            buffer.append(RESULTS);
+            for (int i = 0; i < results.size(); i++) {
+                if (i > 0) {
+                    buffer.append((byte) ',');
+                }
+                writeResponse(results.get(i), buffer);
+            }
+            buffer.append((byte) ']').append((byte) ',');
+        }
+        buffer.append(SUCCESS).append(batch.isSuccess() ? TRUE : FALSE).append((byte) '}');
+    }
+
+    static void writeResponse(DmnResponse response, Buffer buffer) {
+        buffer.append((byte) '{');
+        List<DmnResponse> decisions = response.getDecisions();
+        if (decisions != null) {
+            buffer.append(DECISIONS);
+            for (int i = 0; i < decisions.size(); i++) {
+                if (i > 0) {
+                    buffer.append((byte) ',');
+                }
+                writeResponse(decisions.get(i), buffer);
+            }
+            buffer.append((byte) ']').append((byte) ',');
+        }
+        if (response.getError() != null) {
+            buffer.append(ERROR).appendString(response.getError()).append((byte) ',');
+        }
+        if (response.hasLazyReason()) {
+            buffer.append(REASON);
+            writeReason(response.getDecisionName(), response.getValue(), buffer);
+            buffer.append((byte) ',');
+        } else if (response.getReason() != null) {
+            buffer.append(REASON).appendString(response.getReason()).append((byte) ',');
+        }
+        buffer.append(RESULT).append(response.isResult() ? TRUE : FALSE).append((byte) ',');
+        buffer.append(SUCCESS).append(response.isSuccess() ? TRUE : FALSE);
+        if (response.getOutput() != null) {
+            buffer.append((byte) ',').append(VALUE);
+            writeValue(response.getOutput(), buffer);
+        }
+        buffer.append((byte) '}');
+    }
+
+    static void writeValue(Object value, Buffer buffer) {
+        switch (value) {
+            case null -> buffer.append(NULL);
+            case Boolean b -> buffer.append(b ? TRUE : FALSE);
+            case Double d when d.isNaN() || d.isInfinite() -> buffer.appendString(d.toString());
+            case Float f when f.isNaN() || f.isInfinite() -> buffer.appendString(f.toString());
+            // Digits, signs and exponents only, so nothing needs escaping
+            case Number number -> buffer.appendEscaped(number.toString());
+            case Map<?, ?> map -> {
+                buffer.append((byte) '{');
+                boolean first = true;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (!first) {
+                        buffer.append((byte) ',');
+                    }
+                    first = false;
+                    buffer.appendString(String.valueOf(entry.getKey())).append((byte) ':');
+                    writeValue(entry.getValue(), buffer);
+                }
+                buffer.append((byte) '}');
+            }
+            case Collection<?> collection -> {
+                buffer.append((byte) '[');
+                boolean first = true;
+                for (Object element : collection) {
+                    if (!first) {
+                        buffer.append((byte) ',');
+                    }
+                    first = false;
+                    writeValue(element, buffer);
+                }
+                buffer.append((byte) ']');
+            }
+            default -> buffer.appendString(value.toString());
+        }
+    }
+
+    // Same text as DmnResponse.formatReason
+    private static void writeReason(String decisionName, Object value, Buffer buffer) {
+        buffer.append((byte) '"');
+        if (decisionName != null) {
+            buffer.append(DECISION).appendEscaped(decisionName).append(EVALUATED);
+        } else {
+            buffer.append(EVALUATED_SUCCESSFULLY);
+        }
+        if (value != null) {
+            buffer.append(RESULT_SUFFIX);
+            if (value instanceof Boolean b) {
+                buffer.append(b ? TRUE : FALSE);
+            } else {
+                buffer.appendEscaped(value.toString());
+            }
+        }
+        buffer.append((byte) '"');
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Growable byte array that encodes JSON strings as UTF-8 without intermediate copies.
+     */
+    static final class Buffer {
+
+        private static final byte[] HEX = ascii("0123456789abcdef");
+
+        byte[] bytes;
+        int size;
+
+        Buffer(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        Buffer append(byte b) {
+            ensureCapacity(1);
+            bytes[size++] = b;
+            return this;
+        }
+
+        Buffer append(byte[] encoded) {
+            ensureCapacity(encoded.length);
+            System.arraycopy(encoded, 0, bytes, size, encoded.length);
+            size += encoded.length;
+            return this;
+        }
+
+        Buffer appendString(String text) {
+            return append((byte) '"').appendEscaped(text).append((byte) '"');
+        }
+
+        /**
+         * Appends {@code text} escaped for a JSON string, the way the JSON-P generator does.
+         */
+        Buffer appendEscaped(String text) {
+            // Worst case: 6 bytes per char for \\u00XX escapes, 3 for the rest of the BMP
+            ensureCapacity(text.length() * 6);
+            byte[] out = bytes;
+            int pos = size;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                    out[pos++] = (byte) c;
+                } else if (c < 0x80) {
+                    out[pos++] = '\\';
+                    switch (c) {
+                        case '"' -> out[pos++] = '"';
+                        case '\\' -> out[pos++] = '\\';
+                        case '\b' -> out[pos++] = 'b';
+                        case '\f' -> out[pos++] = 'f';
+                        case '\n' -> out[pos++] = 'n';
+                        case '\r' -> out[pos++] = 'r';
+                        case '\t' -> out[pos++] = 't';
+                        default -> {
+                            out[pos++] = 'u';
+                            out[pos++] = '0';
+                            out[pos++] = '0';
+                            out[pos++] = HEX[c >> 4];
+                            out[pos++] = HEX[c & 0xf];
+                        }
+                    }
+                } else if (c < 0x800) {
+                    out[pos++] = (byte) (0xc0 | (c >> 6));
+                    out[pos++] = (byte) (0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                    out[pos++] = (byte) (0xf0 | (codePoint >> 18));
+                    out[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                    out[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                    out[pos++] = (byte) (0x80 | (codePoint & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    // Unpaired surrogate, replaced like String.getBytes(UTF_8) does
+                    out[pos++] = '?';
+                } else {
+                    out[pos++] = (byte) (0xe0 | (c >> 12));
+                    out[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    out[pos++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+            size = pos;
+            return this;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+
+        void release() {
+            size = 0;
+            if (bytes.length > MAX_RETAINED_CAPACITY) {
+                bytes = new byte[1024];
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package mn.dmn;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of evaluation responses.
+ *
+ * <p>Decisions are pure functions of their inputs, so a successful
+ * {@link DmnResponse} can be reused for the same model version, decision and
+ * inputs. Keys carry the fingerprint and compilation of the model, so a recompiled
+ * model never sees results of its predecessor, even when only a model it imports
+ * changed; entries of the replaced compilation are dropped as soon as the
+ * {@link DmnModelRegistry} swaps it out.</p>
+ *
+ * <p>Inputs are canonicalized the way the FEEL runtime coerces them: every number
+ * becomes a {@link BigDecimal} without trailing zeros, so {@code 50000},
+ * {@code 50000.0} and {@code 5E+4} share one entry. Inputs holding other object
+ * types are not cached.</p>
+ */
+@ApplicationScoped
+public class DmnResultCache {
+
+    private static final Object UNCACHEABLE = new Object();
+
+    @ConfigProperty(name = "dmn.cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "dmn.cache.max-size", defaultValue = "10000")
+    long maxSize;
+
+    @ConfigProperty(name = "dmn.cache.ttl-seconds", defaultValue = "600")
+    long ttlSeconds;
+
+    private final LongAdder bypassed = new LongAdder();
+
+    private Cache<Key, DmnResponse> cache;
+
+    @PostConstruct
+    void init() {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats();
+        if (ttlSeconds > 0) {
+            builder.expireAfterWrite(Duration.ofSeconds(ttlSeconds));
+        }
+        cache = builder.build();
+    }
+
+    /**
+     * Returns the cached response for these inputs, or runs {@code evaluation} and
+     * caches its result if it succeeded.
+     */
+    public DmnResponse get(CompiledDmnModel model, String decisionName, Map<String, Object> inputData,
+                           Supplier<DmnResponse> evaluation) {
+        if (!enabled) {
+            return evaluation.get();
+        }
+        long lookupStart = DmnTimings.start();
+        Key key = key(model, decisionName, inputData);
+        if (key == null) {
+            DmnTimings.stop(DmnTimings.Phase.CACHE, lookupStart);
+            bypassed.increment();
+            return evaluation.get();
+        }
+
+        DmnResponse cached = cache.getIfPresent(key);
+        DmnTimings.stop(DmnTimings.Phase.CACHE, lookupStart);
+        if (cached != null) {
+            return cached;
+        }
+        // Evaluate outside the cache so a slow decision never blocks other keys
+        DmnResponse response = evaluation.get();
+        if (response.isSuccess()) {
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    /**
+     * Counts a request that skipped the cache on the caller's request.
+     */
+    public void recordBypass() {
+        bypassed.increment();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    void onModelCompiled(@Observes DmnModelCompiledEvent event) {
+        CompiledDmnModel previous = event.getPrevious();
+        if (previous != null && previous.getCompilationId() != event.getModel().getCompilationId()) {
+            long compilationId = previous.getCompilationId();
+            cache.asMap().keySet().removeIf(key -> key.compilationId == compilationId);
+        }
+    }
+
+    /**
+     * Drops the cached results of the model version with the given fingerprint.
+     */
+    public void invalidate(String fingerprint) {
+        cache.asMap().keySet().removeIf(key -> key.fingerprint.equals(fingerprint));
+    }
+
+    public DmnCacheStats getStats() {
+        CacheStats stats = cache.stats();
+        return new DmnCacheStats(
+                enabled,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                bypassed.sum());
+    }
+
+    private static Key key(CompiledDmnModel model, String decisionName, Map<String, Object> inputData) {
+        Object inputs = canonicalize(inputData == null ? Map.of() : inputData);
+        if (inputs == UNCACHEABLE) {
+            return null;
+        }
+        String decision = decisionName == null || decisionName.trim().isEmpty() ? "" : decisionName;
+        return new Key(model.getFingerprint(), model.getCompilationId(), decision, inputs);
+    }
+
+    /**
+     * An order independent copy of {@code value} with numbers normalized,
+     * or {@link #UNCACHEABLE} if it holds a type the key cannot compare by value.
+     */
+    static Object canonicalize(Object value) {
+        return switch (value) {
+            case null -> null;
+            case String s -> s;
+            case Boolean b -> b;
+            case BigDecimal number -> number.stripTrailingZeros();
+            case BigInteger number -> new BigDecimal(number, MathContext.DECIMAL128).stripTrailingZeros();
+            case Double d when !Double.isFinite(d) -> UNCACHEABLE;
+            case Float f when !Float.isFinite(f) -> UNCACHEABLE;
+            // Same conversion as the FEEL runtime, which goes through the decimal string of the value
+            case Double d -> new BigDecimal(d.toString()).stripTrailingZeros();
+            case Float f -> new BigDecimal(f.toString()).stripTrailingZeros();
+            case Long number -> BigDecimal.valueOf(number).stripTrailingZeros();
+            case Integer number -> BigDecimal.valueOf(number).stripTrailingZeros();
+            case Short number -> BigDecimal.valueOf(number).stripTrailingZeros();
+            case Byte number -> BigDecimal.valueOf(number).stripTrailingZeros();
+            case Map<?, ?> map -> canonicalizeMap(map);
+            case Collection<?> collection -> canonicalizeCollection(collection);
+            default -> UNCACHEABLE;
+        };
+    }
+
+    private static Object canonicalizeMap(Map<?, ?> map) {
+        TreeMap<String, Object> canonical = new TreeMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!(entry.getKey() instanceof String name)) {
+                return UNCACHEABLE;
+            }
+            Object value = canonicalize(entry.getValue());
+            if (value == UNCACHEABLE) {
+                return UNCACHEABLE;
+            }
+            canonical.put(name, value);
+        }
+        return canonical;
+    }
+
+    private static Object canonicalizeCollection(Collection<?> collection) {
+        ArrayList<Object> canonical = new ArrayList<>(collection.size());
+        for (Object element : collection) {
+            Object value = canonicalize(element);
+            if (value == UNCACHEABLE) {
+                return UNCACHEABLE;
+            }
+            canonical.add(value);
+        }
+        return canonical;
+    }
+
+    private static final class Key {
+
+        final String fingerprint;
+        final long compilationId;
+        final String decisionName;
+        final Object inputs;
+        final int hash;
+
+        Key(String fingerprint, long compilationId, String decisionName, Object inputs) {
+            this.fingerprint = fingerprint;
+            this.compilationId = compilationId;
+            this.decisionName = decisionName;
+            this.inputs = inputs;
+            this.hash = Objects.hash(fingerprint, compilationId, decisionName, inputs);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key
+                    && hash == key.hash
+                    && compilationId == key.compilationId
+                    && fingerprint.equals(key.fingerprint)
+                    && decisionName.equals(key.decisionName)
+                    && Objects.equals(inputs, key.inputs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package mn.dmn;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports where the time of an evaluation request went: as a {@code Server-Timing}
+ * response header ({@code dmn.timing.header.enabled}) and, opt-in, as one tracing
+ * span per phase under the request's server span ({@code dmn.timing.spans.enabled}
+ * with the OpenTelemetry SDK enabled).
+ *
+ * <p>{@code bind} runs from the arrival of the request to the resource method, so it
+ * covers reading and binding the JSON body; {@code total} ends when the response is
+ * built, before it is serialized. The remaining phases are recorded in
+ * {@link DmnTimings} while the request is evaluated.</p>
+ */
+@ApplicationScoped
+public class DmnServerTiming {
+
+    static final String HEADER = "Server-Timing";
+
+    private static final String REQUEST_START = "dmn.request.start";
+
+    @Inject
+    Tracer tracer;
+
+    @ConfigProperty(name = "dmn.timing.header.enabled", defaultValue = "true")
+    boolean headerEnabled;
+
+    @ConfigProperty(name = "dmn.timing.spans.enabled", defaultValue = "false")
+    boolean spansEnabled;
+
+    @ServerRequestFilter(preMatching = true)
+    void markRequestStart(RoutingContext routingContext) {
+        if (headerEnabled || spansEnabled) {
+            routingContext.put(REQUEST_START, System.nanoTime());
+        }
+    }
+
+    /**
+     * Starts timing a request in its resource method, or returns {@code null} when timing is disabled.
+     */
+    DmnTimings begin(RoutingContext routingContext) {
+        if (!headerEnabled && !spansEnabled) {
+            return null;
+        }
+        long now = System.nanoTime();
+        Long requestStart = routingContext == null ? null : routingContext.get(REQUEST_START);
+        DmnTimings timings = new DmnTimings(requestStart == null ? now : requestStart,
+                spansEnabled ? Context.current() : null);
+        timings.record(DmnTimings.Phase.BIND, timings.requestStart(), now);
+        return timings;
+    }
+
+    /**
+     * Adds the header to {@code response} and emits the phase spans.
+     */
+    Response.ResponseBuilder finish(DmnTimings timings, Response.ResponseBuilder response) {
+        if (timings == null) {
+            return response;
+        }
+        long end = System.nanoTime();
+        if (spansEnabled) {
+            for (DmnTimings.Phase phase : DmnTimings.Phase.values()) {
+                if (timings.recorded(phase)) {
+                    long start = timings.start(phase);
+                    tracer.spanBuilder("dmn." + phase.metric)
+                            .setParent(timings.parent())
+                            .setStartTimestamp(timings.epochNanos(start), TimeUnit.NANOSECONDS)
+                            .startSpan()
+                            .end(timings.epochNanos(start + timings.duration(phase)), TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+        return headerEnabled ? response.header(HEADER, timings.header(end)) : response;
+    }
+}
@@ -1,152 +1,416 @@
 package mn.dmn;
-import jakarta.enterprise.context.RequestScoped;
-import org.kie.api.KieServices;
-import org.kie.api.runtime.KieContainer;
-import org.kie.api.runtime.KieRuntimeFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
 import org.kie.dmn.api.core.*;
 import org.kie.dmn.api.core.ast.DecisionNode;
 
-import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-
-@RequestScoped
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+@ApplicationScoped
 public class DmnService {
 
+    private static final Logger LOG = Logger.getLogger(DmnService.class);
+
+    /**
+     * How qualifying decision tables are evaluated: {@code enabled} uses the
+     * {@link FastDecisionTable} matcher, {@code disabled} always uses the KIE engine
+     * and {@code verify} runs both, reports differences and answers with the engine result.
+     */
+    public enum FastPathMode {
+        ENABLED,
+        DISABLED,
+        VERIFY
+    }
+
+    // Below this size splitting a batch across cores costs more than it saves
+    private static final int PARALLEL_BATCH_THRESHOLD = 32;
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @Inject
+    DmnResultCache resultCache;
+
+    @Inject
+    DmnMetrics metrics;
+
+    @Inject
+    ParallelDrgEvaluator parallelEvaluator;
+
+    @ConfigProperty(name = "dmn.batch.parallelism", defaultValue = "0")
+    int batchParallelism;
+
+    @ConfigProperty(name = "dmn.fastpath.mode", defaultValue = "enabled")
+    FastPathMode fastPathMode;
+
+    private final LongAdder fastPathHits = new LongAdder();
+    private final LongAdder fastPathFallbacks = new LongAdder();
+    private final LongAdder fastPathMismatches = new LongAdder();
+
+    private ForkJoinPool batchPool;
+
+    @PostConstruct
+    void init() {
+        batchPool = new ForkJoinPool(batchParallelism > 0 ? batchParallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batchPool.shutdown();
+    }
+
     public DmnResponse evaluateDecision(DmnRequest request) {
+        return evaluateDecision(request, false);
+    }
+
+    /**
+     * @param bypassCache evaluate even if a cached result exists, and do not cache this one
+     */
+    public DmnResponse evaluateDecision(DmnRequest request, boolean bypassCache) {
         try {
-            // Create DMN runtime
-            KieServices kieServices = KieServices.Factory.get();
-            KieContainer kieContainer = kieServices.newKieClasspathContainer();
-
-            org.kie.api.KieBase kieBase;
-            try {
-                kieBase = kieContainer.getKieBase();
-            } catch (Exception e) {
-                System.out.println("No default KieBase found, trying to get first available...");
-                // If no default KieBase, get the first available one
-                if (!kieContainer.getKieBaseNames().isEmpty()) {
-                    String firstKieBaseName = kieContainer.getKieBaseNames().iterator().next();
-                    kieBase = kieContainer.getKieBase(firstKieBaseName);
-                    System.out.println("Using KieBase: " + firstKieBaseName);
-                } else {
-                    return new DmnResponse("No KieBase available. Please ensure module.xml is properly configured in src/main/resources/META-INF/");
-                }
+            // Resolve the compiled model, compiling it only on first use or after a change
+            long modelStart = DmnTimings.start();
+            CompiledDmnModel compiledModel = request.hasModelName()
+                    ? findModel(request.getNamespace(), request.getModelName())
+                    : loadDMNModel(request.getDmnFile());
+            DmnTimings.stop(DmnTimings.Phase.MODEL, modelStart);
+            if (request.hasDecisionNames()) {
+                return evaluate(compiledModel, request.getDecisionNames(), request.getInputData(), bypassCache);
             }
+            return evaluate(compiledModel, request.getDecisionName(), request.getInputData(), bypassCache);
+        } catch (Exception e) {
+            recordError(DmnMetrics.CAUSE_EXCEPTION);
+            return new DmnResponse("Error evaluating DMN: " + e.getMessage());
+        }
+    }
 
-            DMNRuntime dmnRuntime = KieRuntimeFactory.of(kieBase).get(DMNRuntime.class);
-
-            // If no runtime found, try alternative approach
-            if (dmnRuntime == null) {
-//                dmnRuntime = DMNRuntimeImpl.createResultImpl();
-                System.out.println("dmnRuntime is null");
-            }
+    /**
+     * Evaluates against an already compiled model, e.g. one deployed through {@link DmnModelStore}.
+     */
+    public DmnResponse evaluateDecision(CompiledDmnModel compiledModel, String decisionName, Map<String, Object> inputData,
+                                        boolean bypassCache) {
+        return evaluateSafely(compiledModel, decisionName, inputData, bypassCache);
+    }
 
-            // Load DMN model
-            DMNModel dmnModel = loadDMNModel(dmnRuntime, request.getDmnFile());
+    /**
+     * Evaluates the named decisions of an already compiled model in one pass.
+     */
+    public DmnResponse evaluateDecisions(CompiledDmnModel compiledModel, List<String> decisionNames,
+                                         Map<String, Object> inputData, boolean bypassCache) {
+        try {
+            return evaluate(compiledModel, decisionNames, inputData, bypassCache);
+        } catch (Exception e) {
+            recordError(DmnMetrics.CAUSE_EXCEPTION);
+            return new DmnResponse("Error evaluating DMN: " + e.getMessage());
+        }
+    }
 
-            if (dmnModel == null) {
-                return new DmnResponse("Failed to load DMN model from file: " + request.getDmnFile());
-            }
+    /**
+     * Evaluates every input set against the same model, which is resolved once.
+     * Large batches are split across cores; results are returned in input order.
+     */
+    public DmnBatchResponse evaluateBatch(DmnBatchRequest request) {
+        return evaluateBatch(request, false);
+    }
 
-            // Create DMN context with input data
-            assert dmnRuntime != null;
-            DMNContext dmnContext = dmnRuntime.newContext();
-            if (request.getInputData() != null) {
-                for (Map.Entry<String, Object> entry : request.getInputData().entrySet()) {
-                    dmnContext.set(entry.getKey(), entry.getValue());
-                }
-            }
+    public DmnBatchResponse evaluateBatch(DmnBatchRequest request, boolean bypassCache) {
+        CompiledDmnModel compiledModel;
+        try {
+            compiledModel = request.hasModelName()
+                    ? findModel(request.getNamespace(), request.getModelName())
+                    : loadDMNModel(request.getDmnFile());
+        } catch (Exception e) {
+            return new DmnBatchResponse("Error evaluating DMN: " + e.getMessage());
+        }
 
-            // Evaluate decision
-            DMNResult dmnResult;
-            if (request.getDecisionName() != null && !request.getDecisionName().trim().isEmpty()) {
-                // Evaluate specific decision
-                dmnResult = dmnRuntime.evaluateByName(dmnModel, dmnContext, request.getDecisionName());
-            } else {
-                // Evaluate all decisions
-                dmnResult = dmnRuntime.evaluateAll(dmnModel, dmnContext);
-            }
+        List<Map<String, Object>> inputs = request.getInputData();
+        if (inputs == null || inputs.isEmpty()) {
+            return new DmnBatchResponse(List.of());
+        }
 
-            // Check for errors
-            if (dmnResult.hasErrors()) {
-                StringBuilder errorMessage = new StringBuilder("DMN evaluation errors: ");
-                dmnResult.getMessages().forEach(msg -> errorMessage.append(msg.getText()).append("; "));
-                return new DmnResponse(errorMessage.toString());
+        String decisionName = request.getDecisionName();
+        if (inputs.size() < PARALLEL_BATCH_THRESHOLD) {
+            List<DmnResponse> results = new ArrayList<>(inputs.size());
+            for (Map<String, Object> inputData : inputs) {
+                results.add(evaluateSafely(compiledModel, decisionName, inputData, bypassCache));
             }
+            return new DmnBatchResponse(results);
+        }
 
-            // Extract result and reason
-            return processResult(dmnResult, request.getDecisionName(), dmnModel);
+        // An ordered parallel stream keeps results aligned with their input index
+        List<DmnResponse> results = batchPool.submit(() -> IntStream.range(0, inputs.size())
+                .parallel()
+                .mapToObj(i -> evaluateSafely(compiledModel, decisionName, inputs.get(i), bypassCache))
+                .toList()).join();
+        return new DmnBatchResponse(results);
+    }
 
+    private DmnResponse evaluateSafely(CompiledDmnModel compiledModel, String decisionName, Map<String, Object> inputData,
+                                       boolean bypassCache) {
+        try {
+            return evaluate(compiledModel, decisionName, inputData, bypassCache);
         } catch (Exception e) {
+            recordError(DmnMetrics.CAUSE_EXCEPTION);
             return new DmnResponse("Error evaluating DMN: " + e.getMessage());
         }
     }
 
-    private DMNModel loadDMNModel(DMNRuntime dmnRuntime, String dmnFilePath) {
-        try {
-            InputStream dmnStream = getClass().getClassLoader().getResourceAsStream(dmnFilePath);
+    DmnResponse evaluate(CompiledDmnModel compiledModel, String decisionName, Map<String, Object> inputData) {
+        return evaluate(compiledModel, decisionName, inputData, false);
+    }
+
+    DmnResponse evaluate(CompiledDmnModel compiledModel, String decisionName, Map<String, Object> inputData,
+                         boolean bypassCache) {
+        return evaluate(compiledModel, decisionName, inputData, bypassCache,
+                () -> evaluateModel(compiledModel, decisionName, inputData));
+    }
 
-            // If not found in classpath, try to load from file system
-            Path path = Paths.get(dmnFilePath);
-            if (Files.exists(path)) {
-                dmnStream = Files.newInputStream(path);
+    /**
+     * Evaluates several decisions together: only they and the decisions they require
+     * are evaluated, and the response lists a result for each, in request order.
+     */
+    DmnResponse evaluate(CompiledDmnModel compiledModel, List<String> decisionNames, Map<String, Object> inputData,
+                         boolean bypassCache) {
+        for (String decisionName : decisionNames) {
+            if (decisionName == null || !compiledModel.hasDecision(decisionName)) {
+                recordError(DmnMetrics.CAUSE_DECISION_NOT_FOUND);
+                return new DmnResponse("Decision not found: " + decisionName);
+            }
+        }
+        return evaluate(compiledModel, DmnMetrics.selectionKey(decisionNames), inputData, bypassCache,
+                () -> evaluateSelection(compiledModel, decisionNames, inputData));
+    }
+
+    // decisionName is the result cache and metrics key of the evaluation
+    private DmnResponse evaluate(CompiledDmnModel compiledModel, String decisionName, Map<String, Object> inputData,
+                                 boolean bypassCache, Supplier<DmnResponse> evaluation) {
+        DmnEvaluationEvent event = new DmnEvaluationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            DmnResponse response;
+            if (bypassCache) {
+                resultCache.recordBypass();
+                response = evaluation.get();
             } else {
-                // Try relative to src/main/resources
-                path = Paths.get("src/main/resources/" + dmnFilePath);
-                if (Files.exists(path)) {
-                    dmnStream = Files.newInputStream(path);
-                }
+                response = resultCache.get(compiledModel, decisionName, inputData, evaluation);
             }
+            success = response.isSuccess();
+            return response;
+        } finally {
+            if (metrics != null) {
+                metrics.recordEvaluation(compiledModel, decisionName, System.nanoTime() - start, success);
+            }
+            event.complete(compiledModel, decisionName, success);
+        }
+    }
+
+    private DmnResponse evaluateModel(CompiledDmnModel compiledModel, String decisionName, Map<String, Object> inputData) {
+        // Simple numeric decision tables are matched without the FEEL interpreter
+        FastDecisionTable fastTable = fastPathMode == FastPathMode.DISABLED || decisionName == null
+                ? null
+                : compiledModel.getFastDecisionTable(decisionName);
+        Object fastResult = FastDecisionTable.FALLBACK;
+        if (fastTable != null) {
+            long fastStart = DmnTimings.start();
+            fastResult = fastTable.evaluate(inputData);
+            DmnTimings.stop(DmnTimings.Phase.FASTPATH, fastStart);
+            if (fastResult == FastDecisionTable.FALLBACK) {
+                fastPathFallbacks.increment();
+            } else if (fastPathMode == FastPathMode.ENABLED) {
+                fastPathHits.increment();
+                return toResponse(fastResult, decisionName);
+            }
+        }
 
-            if (dmnStream == null) {
-                throw new RuntimeException("DMN file not found: " + dmnFilePath);
+        // Independent branches of a heavy DRG run in parallel when enabled for this model
+        List<List<String>> levels = parallelEvaluator == null || decisionName == null || decisionName.trim().isEmpty()
+                ? null
+                : parallelEvaluator.plan(compiledModel, List.of(decisionName));
+        if (levels != null) {
+            long evaluateStart = DmnTimings.start();
+            ParallelDrgEvaluator.Result result = parallelEvaluator.evaluate(compiledModel, levels, inputData);
+            DmnTimings.stop(DmnTimings.Phase.EVALUATE, evaluateStart);
+            if (result.error() != null) {
+                recordError(DmnMetrics.CAUSE_EVALUATION);
+                return new DmnResponse(result.error());
             }
+            Object value = result.values().get(decisionName);
+            if (fastResult != FastDecisionTable.FALLBACK) {
+                verifyFastResult(compiledModel, decisionName, inputData, fastResult, value);
+            }
+            return toResponse(value, decisionName);
+        }
+
+        DMNRuntime dmnRuntime = compiledModel.getRuntime();
+        DMNModel dmnModel = compiledModel.getModel();
 
-            // Use KieServices to compile and load the DMN model
-            KieServices kieServices = KieServices.Factory.get();
-            org.kie.api.io.Resource dmnResource = kieServices.getResources().newInputStreamResource(dmnStream);
-            dmnResource.setSourcePath(dmnFilePath);
+        // Create DMN context with input data
+        long contextStart = DmnTimings.start();
+        DMNContext dmnContext = dmnRuntime.newContext();
+        if (inputData != null) {
+            for (Map.Entry<String, Object> entry : inputData.entrySet()) {
+                dmnContext.set(entry.getKey(), entry.getValue());
+            }
+        }
+        DmnTimings.stop(DmnTimings.Phase.CONTEXT, contextStart);
+
+        // Evaluate decision
+        long evaluateStart = DmnTimings.start();
+        DMNResult dmnResult;
+        if (decisionName != null && !decisionName.trim().isEmpty()) {
+            // Evaluate specific decision
+            dmnResult = dmnRuntime.evaluateByName(dmnModel, dmnContext, decisionName);
+        } else {
+            // Evaluate all decisions
+            dmnResult = dmnRuntime.evaluateAll(dmnModel, dmnContext);
+        }
+        DmnTimings.stop(DmnTimings.Phase.EVALUATE, evaluateStart);
+
+        // Check for errors
+        if (dmnResult.hasErrors()) {
+            // The engine reports unknown decision names as evaluation errors
+            boolean unknownDecision = decisionName != null && !decisionName.trim().isEmpty()
+                    && dmnModel.getDecisionByName(decisionName) == null;
+            recordError(unknownDecision ? DmnMetrics.CAUSE_DECISION_NOT_FOUND : DmnMetrics.CAUSE_EVALUATION);
+            StringBuilder errorMessage = new StringBuilder("DMN evaluation errors: ");
+            dmnResult.getMessages().forEach(msg -> errorMessage.append(msg.getText()).append("; "));
+            return new DmnResponse(errorMessage.toString());
+        }
 
-            // Create a KieFileSystem and add the DMN resource
-            org.kie.api.builder.KieFileSystem kieFileSystem = kieServices.newKieFileSystem();
-            kieFileSystem.write(dmnResource);
+        if (fastResult != FastDecisionTable.FALLBACK) {
+            DMNDecisionResult decisionResult = dmnResult.getDecisionResultByName(decisionName);
+            verifyFastResult(compiledModel, decisionName, inputData, fastResult,
+                    decisionResult == null ? null : decisionResult.getResult());
+        }
 
-            // Create a KieBuilder from the KieFileSystem
-            org.kie.api.builder.KieBuilder kieBuilder = kieServices.newKieBuilder(kieFileSystem);
-            kieBuilder.buildAll();
+        // Extract result and reason
+        long resultStart = DmnTimings.start();
+        DmnResponse response = processResult(dmnResult, decisionName, dmnModel);
+        DmnTimings.stop(DmnTimings.Phase.RESULT, resultStart);
+        return response;
+    }
 
-            // Check for build errors
-            if (kieBuilder.getResults().hasMessages(org.kie.api.builder.Message.Level.ERROR)) {
-                throw new RuntimeException("DMN compilation errors: " + kieBuilder.getResults().getMessages());
+    private DmnResponse evaluateSelection(CompiledDmnModel compiledModel, List<String> decisionNames,
+                                          Map<String, Object> inputData) {
+        List<List<String>> levels = parallelEvaluator == null ? null : parallelEvaluator.plan(compiledModel, decisionNames);
+        if (levels != null) {
+            long evaluateStart = DmnTimings.start();
+            ParallelDrgEvaluator.Result result = parallelEvaluator.evaluate(compiledModel, levels, inputData);
+            DmnTimings.stop(DmnTimings.Phase.EVALUATE, evaluateStart);
+            if (result.error() != null) {
+                recordError(DmnMetrics.CAUSE_EVALUATION);
+                return new DmnResponse(result.error());
             }
+            return toSelectionResponse(decisionNames, result.values()::get);
+        }
 
-            // Get the first available model (since we just loaded one)
-            List<DMNModel> models = dmnRuntime.getModels();
-            if (models == null || models.isEmpty()) {
-                throw new RuntimeException("No DMN models found in file: " + dmnFilePath);
+        DMNRuntime dmnRuntime = compiledModel.getRuntime();
+        long contextStart = DmnTimings.start();
+        DMNContext dmnContext = dmnRuntime.newContext();
+        if (inputData != null) {
+            for (Map.Entry<String, Object> entry : inputData.entrySet()) {
+                dmnContext.set(entry.getKey(), entry.getValue());
             }
+        }
+        DmnTimings.stop(DmnTimings.Phase.CONTEXT, contextStart);
+
+        // Decisions required by another requested one are evaluated on the way to it
+        long evaluateStart = DmnTimings.start();
+        DMNResult dmnResult = dmnRuntime.evaluateByName(compiledModel.getModel(), dmnContext,
+                compiledModel.rootDecisions(decisionNames));
+        DmnTimings.stop(DmnTimings.Phase.EVALUATE, evaluateStart);
+        if (dmnResult.hasErrors()) {
+            recordError(DmnMetrics.CAUSE_EVALUATION);
+            StringBuilder errorMessage = new StringBuilder("DMN evaluation errors: ");
+            dmnResult.getMessages().forEach(msg -> errorMessage.append(msg.getText()).append("; "));
+            return new DmnResponse(errorMessage.toString());
+        }
 
-            // Return the first model
-            return models.getFirst();
+        return toSelectionResponse(decisionNames, decisionName -> {
+            DMNDecisionResult decisionResult = dmnResult.getDecisionResultByName(decisionName);
+            return decisionResult == null ? null : decisionResult.getResult();
+        });
+    }
+
+    private DmnResponse toSelectionResponse(List<String> decisionNames, Function<String, Object> values) {
+        long resultStart = DmnTimings.start();
+        List<DmnResponse> decisions = new ArrayList<>(decisionNames.size());
+        for (String decisionName : decisionNames) {
+            decisions.add(toResponse(values.apply(decisionName), decisionName));
+        }
+        // The first requested decision also answers at the top level, as for a single decisionName
+        DmnResponse first = decisions.getFirst();
+        DmnResponse response = DmnResponse.evaluated(first.isResult(), first.getDecisionName(), first.getValue());
+        response.setDecisions(decisions);
+        DmnTimings.stop(DmnTimings.Phase.RESULT, resultStart);
+        return response;
+    }
+
+    private void verifyFastResult(CompiledDmnModel compiledModel, String decisionName, Map<String, Object> inputData,
+                                  Object fastResult, Object engineResult) {
+        if (sameResult(fastResult, engineResult)) {
+            fastPathHits.increment();
+        } else {
+            fastPathMismatches.increment();
+            LOG.warnf("Fast path mismatch for decision '%s' in %s with inputs %s: fast path %s, engine %s",
+                    decisionName, compiledModel.getDmnFile(), inputData, fastResult, engineResult);
+        }
+    }
+
+    static boolean sameResult(Object fastResult, Object engineResult) {
+        if (fastResult instanceof BigDecimal fast && engineResult instanceof BigDecimal engine) {
+            return fast.compareTo(engine) == 0;
+        }
+        return Objects.equals(fastResult, engineResult);
+    }
+
+    public DmnFastPathStats getFastPathStats() {
+        return new DmnFastPathStats(fastPathMode.name().toLowerCase(), fastPathHits.sum(), fastPathFallbacks.sum(), fastPathMismatches.sum());
+    }
 
+    private CompiledDmnModel loadDMNModel(String dmnFilePath) {
+        try {
+            return modelRegistry.get(dmnFilePath);
         } catch (Exception e) {
+            recordError(DmnMetrics.CAUSE_MODEL_LOAD);
             throw new RuntimeException("Failed to load DMN model: " + e.getMessage(), e);
         }
     }
 
-    private DmnResponse processResult(DMNResult dmnResult, String decisionName, DMNModel dmnModel) {
+    private CompiledDmnModel findModel(String namespace, String modelName) {
+        CompiledDmnModel compiledModel = modelRegistry.getByName(namespace, modelName);
+        if (compiledModel == null) {
+            recordError(DmnMetrics.CAUSE_MODEL_LOAD);
+            throw new RuntimeException("Failed to load DMN model: no loaded model " + DmnModelRegistry.modelKey(namespace, modelName));
+        }
+        return compiledModel;
+    }
+
+    DmnResponse processResult(DMNResult dmnResult, String decisionName, DMNModel dmnModel) {
         try {
             Object result;
-            String reason = "Decision evaluated successfully";
+            String evaluatedDecision = null;
 
             if (decisionName != null && !decisionName.trim().isEmpty()) {
                 // Get specific decision result
                 DMNDecisionResult decisionResult = dmnResult.getDecisionResultByName(decisionName);
                 if (decisionResult == null) {
+                    recordError(DmnMetrics.CAUSE_DECISION_NOT_FOUND);
                     return new DmnResponse("Decision not found: " + decisionName);
                 }
                 result = decisionResult.getResult();
@@ -154,35 +418,40 @@ public class DmnService {
                 // Find the decision node to get additional context
                 DecisionNode decisionNode = dmnModel.getDecisionByName(decisionName);
                 if (decisionNode != null) {
-                    reason = "Decision '" + decisionName + "' evaluated";
+                    evaluatedDecision = decisionName;
                 }
             } else {
                 // Get first decision result if no specific decision name provided
                 if (!dmnResult.getDecisionResults().isEmpty()) {
                     DMNDecisionResult firstResult = dmnResult.getDecisionResults().getFirst();
                     result = firstResult.getResult();
-                    reason = "Decision '" + firstResult.getDecisionName() + "' evaluated";
+                    evaluatedDecision = firstResult.getDecisionName();
                 } else {
+                    recordError(DmnMetrics.CAUSE_NO_RESULT);
                     return new DmnResponse("No decision results found");
                 }
             }
 
-            // Convert result to boolean
-            boolean booleanResult = convertToBoolean(result);
-
-            // Enhance reason with result details
-            if (result != null) {
-                reason += " - Result: " + result;
-            }
-
-            return new DmnResponse(booleanResult, reason);
+            return toResponse(result, evaluatedDecision);
 
         } catch (Exception e) {
+            recordError(DmnMetrics.CAUSE_EXCEPTION);
             return new DmnResponse("Error processing result: " + e.getMessage());
         }
     }
 
-    private boolean convertToBoolean(Object result) {
+    private void recordError(String cause) {
+        if (metrics != null) {
+            metrics.recordError(cause);
+        }
+    }
+
+    private DmnResponse toResponse(Object result, String decisionName) {
+        // Convert result to boolean; the reason is formatted from the result only when it is serialized
+        return DmnResponse.evaluated(convertToBoolean(result), decisionName, result);
+    }
+
+    boolean convertToBoolean(Object result) {
         switch (result) {
             case null -> {
                 return false;
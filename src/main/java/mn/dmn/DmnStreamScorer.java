@@ -0,0 +1,378 @@
+package mn.dmn;
+
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scores an unbounded stream of NDJSON or CSV rows against one DMN model and
+ * writes one NDJSON {@link DmnResponse} per row, in input order, while the input
+ * is still being read.
+ *
+ * <p>A reader thread parses rows and submits their evaluation to a worker pool,
+ * queueing the pending results in a bounded queue. The calling thread drains that
+ * queue in order and writes the results. When the writer or the workers fall
+ * behind, the queue fills up and the reader stops consuming input, so memory use
+ * is bounded by {@code dmn.stream.queue-capacity} regardless of the input size.</p>
+ */
+@ApplicationScoped
+public class DmnStreamScorer {
+
+    private static final Logger LOG = Logger.getLogger(DmnStreamScorer.class);
+
+    private static final int FLUSH_INTERVAL = 256;
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @Inject
+    DmnService dmnService;
+
+    @Inject
+    DmnMetrics metrics;
+
+    @ConfigProperty(name = "dmn.stream.queue-capacity", defaultValue = "1024")
+    int queueCapacity;
+
+    @ConfigProperty(name = "dmn.stream.parallelism", defaultValue = "0")
+    int parallelism;
+
+    private final Jsonb jsonb = JsonbBuilder.create();
+
+    private final LongAdder rowsProcessed = new LongAdder();
+    private final LongAdder rowsFailed = new LongAdder();
+    private final AtomicLong completedStreams = new AtomicLong();
+    private volatile double lastRowsPerSecond;
+
+    private ExecutorService workers;
+    private ExecutorService readers;
+
+    @PostConstruct
+    void init() {
+        workers = Executors.newFixedThreadPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                daemonThreads("dmn-stream-worker"));
+        readers = Executors.newCachedThreadPool(daemonThreads("dmn-stream-reader"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        readers.shutdownNow();
+        workers.shutdownNow();
+        try {
+            jsonb.close();
+        } catch (Exception e) {
+            LOG.debugf(e, "Error closing JSON-B instance");
+        }
+    }
+
+    /**
+     * Scores every row of {@code input} and writes the results to {@code output}.
+     *
+     * @param columnMapping renames input columns (or NDJSON keys) to DMN input names;
+     *                      columns that are not mapped keep their own name
+     */
+    public void score(InputStream input, OutputStream output, String dmnFile, String decisionName,
+                      Format format, Map<String, String> columnMapping) throws IOException {
+        // Resolve once up front so a missing model fails the call instead of every row
+        CompiledDmnModel compiledModel = modelRegistry.get(dmnFile);
+
+        BlockingQueue<CompletableFuture<DmnResponse>> pending = new ArrayBlockingQueue<>(queueCapacity);
+        RowReader reader = new RowReader(input, format, columnMapping, compiledModel, decisionName, pending);
+
+        Counter[] rowCounters = metrics.streamRows(compiledModel);
+        AtomicInteger activeStreams = metrics.activeStreams();
+        activeStreams.incrementAndGet();
+        AtomicInteger inFlight = metrics.inFlight("stream");
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        long rows = 0;
+        readers.execute(reader);
+        try {
+            OutputStream writer = new BufferedOutputStream(output, 64 * 1024);
+            while (true) {
+                CompletableFuture<DmnResponse> next = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (next == null) {
+                    if (reader.isFinished() && pending.isEmpty()) {
+                        // The reader stopped without delivering its end marker
+                        break;
+                    }
+                    continue;
+                }
+                if (next == RowReader.END) {
+                    break;
+                }
+                DmnResponse response = next.join();
+                if (!response.isSuccess()) {
+                    rowsFailed.increment();
+                }
+                rowCounters[response.isSuccess() ? 0 : 1].increment();
+                DmnResponseWriter.writeLine(response, writer);
+                rowsProcessed.increment();
+                // Flush whenever the pipeline has nothing ready, so results reach the client while input is read
+                if (++rows % FLUSH_INTERVAL == 0 || pending.isEmpty()) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while streaming DMN results", e);
+        } finally {
+            reader.cancel();
+            pending.clear();
+            activeStreams.decrementAndGet();
+            inFlight.decrementAndGet();
+            completedStreams.incrementAndGet();
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            lastRowsPerSecond = seconds > 0 ? rows / seconds : 0;
+            LOG.infof("Scored %d row(s) against %s in %.1f s (%.0f rows/s)", rows, dmnFile, seconds, lastRowsPerSecond);
+        }
+    }
+
+    public DmnStreamStats getStats() {
+        return new DmnStreamStats(metrics.activeStreams().get(), completedStreams.get(), rowsProcessed.sum(), rowsFailed.sum(), lastRowsPerSecond);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Parses rows and feeds their pending evaluations into the bounded queue.
+     */
+    private final class RowReader implements Runnable {
+
+        static final CompletableFuture<DmnResponse> END = new CompletableFuture<>();
+
+        private final InputStream input;
+        private final Format format;
+        private final Map<String, String> columnMapping;
+        private final CompiledDmnModel compiledModel;
+        private final String decisionName;
+        private final BlockingQueue<CompletableFuture<DmnResponse>> pending;
+        private volatile boolean cancelled;
+        private volatile boolean finished;
+
+        RowReader(InputStream input, Format format, Map<String, String> columnMapping, CompiledDmnModel compiledModel,
+                  String decisionName, BlockingQueue<CompletableFuture<DmnResponse>> pending) {
+            this.input = input;
+            this.format = format;
+            this.columnMapping = columnMapping == null ? Map.of() : columnMapping;
+            this.compiledModel = compiledModel;
+            this.decisionName = decisionName;
+            this.pending = pending;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public void run() {
+            try {
+                readRows();
+            } catch (IOException | RuntimeException e) {
+                enqueue(CompletableFuture.completedFuture(new DmnResponse("Error reading input: " + e.getMessage())));
+            } finally {
+                enqueue(END);
+                finished = true;
+            }
+        }
+
+        private void readRows() throws IOException {
+            try (BufferedReader lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+                List<String> header = null;
+                long lineNumber = 0;
+                String line;
+                while (!cancelled && (line = lines.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    if (format == Format.CSV && header == null) {
+                        header = parseCsvLine(line);
+                        continue;
+                    }
+                    enqueue(evaluate(line, header, lineNumber));
+                }
+            }
+        }
+
+        private CompletableFuture<DmnResponse> evaluate(String line, List<String> header, long lineNumber) {
+            Map<String, Object> inputData;
+            try {
+                inputData = format == Format.CSV ? parseCsvRow(header, line) : parseJsonRow(line);
+            } catch (Exception e) {
+                metrics.recordError(DmnMetrics.CAUSE_INVALID_ROW);
+                return CompletableFuture.completedFuture(new DmnResponse("Invalid row at line " + lineNumber + ": " + e.getMessage()));
+            }
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    // Rows of a bulk re-score are rarely repeated and would evict the entries online requests use
+                    return dmnService.evaluate(compiledModel, decisionName, inputData, true);
+                } catch (Exception e) {
+                    return new DmnResponse("Error evaluating DMN: " + e.getMessage());
+                }
+            }, workers);
+        }
+
+        private void enqueue(CompletableFuture<DmnResponse> result) {
+            // Blocks while the writer is behind; give up once the stream has been abandoned
+            try {
+                while (!cancelled && !pending.offer(result, 100, TimeUnit.MILLISECONDS)) {
+                    // Backpressure: wait for the writer to drain the queue
+                }
+            } catch (InterruptedException e) {
+                cancelled = true;
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<String, Object> parseJsonRow(String line) {
+            Map<String, Object> row = jsonb.fromJson(line, LinkedHashMap.class);
+            if (columnMapping.isEmpty()) {
+                return row;
+            }
+            Map<String, Object> inputData = new HashMap<>(row.size());
+            row.forEach((key, value) -> inputData.put(columnMapping.getOrDefault(key, key), value));
+            return inputData;
+        }
+
+        private Map<String, Object> parseCsvRow(List<String> header, String line) {
+            List<Object> values = parseCsvValues(line);
+            if (values.size() > header.size()) {
+                throw new IllegalArgumentException("expected " + header.size() + " columns but found " + values.size());
+            }
+            Map<String, Object> inputData = new HashMap<>(header.size());
+            for (int i = 0; i < values.size(); i++) {
+                String column = header.get(i);
+                inputData.put(columnMapping.getOrDefault(column, column), values.get(i));
+            }
+            return inputData;
+        }
+    }
+
+    /**
+     * The fields of a CSV line as text, e.g. a header: unquoted fields trimmed, quoted ones exactly as written.
+     */
+    static List<String> parseCsvLine(String line) {
+        return parseCsvFields(line).stream().map(CsvField::text).toList();
+    }
+
+    /**
+     * The fields of a CSV row as DMN inputs. A quoted field is always the exact string
+     * it contains, so {@code "00123"} and {@code " a "} reach the model unchanged;
+     * unquoted fields are trimmed and read as a number or boolean when they are one.
+     */
+    static List<Object> parseCsvValues(String line) {
+        List<CsvField> fields = parseCsvFields(line);
+        List<Object> values = new ArrayList<>(fields.size());
+        for (CsvField field : fields) {
+            values.add(field.quoted() ? field.text() : toValue(field.text()));
+        }
+        return values;
+    }
+
+    private static List<CsvField> parseCsvFields(String line) {
+        List<CsvField> fields = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean inQuotes = false;
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    inQuotes = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"' && !quoted && value.toString().isBlank()) {
+                // Whitespace before the opening quote is not part of the field
+                value.setLength(0);
+                inQuotes = true;
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(CsvField.of(value, quoted));
+                value.setLength(0);
+                quoted = false;
+            } else if (!quoted || !Character.isWhitespace(c)) {
+                value.append(c);
+            }
+        }
+        fields.add(CsvField.of(value, quoted));
+        return fields;
+    }
+
+    private record CsvField(String text, boolean quoted) {
+
+        static CsvField of(CharSequence value, boolean quoted) {
+            return new CsvField(quoted ? value.toString() : value.toString().trim(), quoted);
+        }
+    }
+
+    static Object toValue(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+            return Boolean.valueOf(value);
+        }
+        char first = value.charAt(0);
+        if (Character.isDigit(first) || first == '-' || first == '+' || first == '.') {
+            try {
+                return new BigDecimal(value);
+            } catch (NumberFormatException e) {
+                // Not a number, keep it as text
+            }
+        }
+        return value;
+    }
+}
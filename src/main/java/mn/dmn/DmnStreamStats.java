@@ -0,0 +1,71 @@
+package mn.dmn;
+
+import jakarta.json.bind.annotation.JsonbProperty;
+
+public class DmnStreamStats {
+
+    @JsonbProperty("activeStreams")
+    private int activeStreams;
+
+    @JsonbProperty("completedStreams")
+    private long completedStreams;
+
+    @JsonbProperty("rowsProcessed")
+    private long rowsProcessed;
+
+    @JsonbProperty("rowsFailed")
+    private long rowsFailed;
+
+    @JsonbProperty("lastRowsPerSecond")
+    private double lastRowsPerSecond;
+
+    public DmnStreamStats() {}
+
+    public DmnStreamStats(int activeStreams, long completedStreams, long rowsProcessed, long rowsFailed, double lastRowsPerSecond) {
+        this.activeStreams = activeStreams;
+        this.completedStreams = completedStreams;
+        this.rowsProcessed = rowsProcessed;
+        this.rowsFailed = rowsFailed;
+        this.lastRowsPerSecond = lastRowsPerSecond;
+    }
+
+    public int getActiveStreams() {
+        return activeStreams;
+    }
+
+    public void setActiveStreams(int activeStreams) {
+        this.activeStreams = activeStreams;
+    }
+
+    public long getCompletedStreams() {
+        return completedStreams;
+    }
+
+    public void setCompletedStreams(long completedStreams) {
+        this.completedStreams = completedStreams;
+    }
+
+    public long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    public void setRowsProcessed(long rowsProcessed) {
+        this.rowsProcessed = rowsProcessed;
+    }
+
+    public long getRowsFailed() {
+        return rowsFailed;
+    }
+
+    public void setRowsFailed(long rowsFailed) {
+        this.rowsFailed = rowsFailed;
+    }
+
+    public double getLastRowsPerSecond() {
+        return lastRowsPerSecond;
+    }
+
+    public void setLastRowsPerSecond(double lastRowsPerSecond) {
+        this.lastRowsPerSecond = lastRowsPerSecond;
+    }
+}
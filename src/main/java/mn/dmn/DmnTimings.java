@@ -0,0 +1,140 @@
+package mn.dmn;
+
+import io.opentelemetry.context.Context;
+
+import java.util.Locale;
+
+/**
+ * Durations of the phases of one evaluation request, reported by {@link DmnServerTiming}
+ * as a {@code Server-Timing} header and, optionally, as tracing spans.
+ *
+ * <p>The timings are bound to the thread that evaluates the request, so the service,
+ * registry and result cache record their phases with {@link #start()} and
+ * {@link #stop(Phase, long)} without passing anything around. On a thread without
+ * bound timings, such as a batch worker or a background reload, both do nothing
+ * beyond a thread-local read.</p>
+ */
+final class DmnTimings {
+
+    /**
+     * Timed phases, by their {@code Server-Timing} metric name. {@code compile} is part
+     * of {@code model}; the others do not overlap.
+     */
+    enum Phase {
+        BIND("bind"),
+        QUEUE("queue"),
+        MODEL("model"),
+        COMPILE("compile"),
+        CACHE("cache"),
+        FASTPATH("fastpath"),
+        CONTEXT("context"),
+        EVALUATE("evaluate"),
+        RESULT("result");
+
+        final String metric;
+
+        Phase(String metric) {
+            this.metric = metric;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final ThreadLocal<DmnTimings> CURRENT = new ThreadLocal<>();
+
+    private final long requestStart;
+    // Converts System.nanoTime() readings to wall-clock time for spans
+    private final long epochOffset;
+    private final Context parent;
+    private final long[] starts = new long[PHASES.length];
+    private final long[] durations = new long[PHASES.length];
+
+    DmnTimings(long requestStart, Context parent) {
+        this.requestStart = requestStart;
+        this.epochOffset = System.currentTimeMillis() * 1_000_000 - System.nanoTime();
+        this.parent = parent;
+    }
+
+    /**
+     * The start of a phase on this thread, or {@code 0} if no request is being timed on it.
+     */
+    static long start() {
+        return CURRENT.get() == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Ends a phase begun with {@link #start()}.
+     */
+    static void stop(Phase phase, long start) {
+        if (start != 0) {
+            DmnTimings timings = CURRENT.get();
+            if (timings != null) {
+                timings.record(phase, start, System.nanoTime());
+            }
+        }
+    }
+
+    /**
+     * Adds {@code start..end} to {@code phase}; a phase that runs more than once keeps its first start.
+     */
+    void record(Phase phase, long start, long end) {
+        if (durations[phase.ordinal()] == 0) {
+            starts[phase.ordinal()] = start;
+        }
+        durations[phase.ordinal()] += end - start;
+    }
+
+    void bind() {
+        CURRENT.set(this);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    long requestStart() {
+        return requestStart;
+    }
+
+    Context parent() {
+        return parent;
+    }
+
+    boolean recorded(Phase phase) {
+        return durations[phase.ordinal()] != 0;
+    }
+
+    long start(Phase phase) {
+        return starts[phase.ordinal()];
+    }
+
+    long duration(Phase phase) {
+        return durations[phase.ordinal()];
+    }
+
+    long epochNanos(long nanoTime) {
+        return nanoTime + epochOffset;
+    }
+
+    /**
+     * The {@code Server-Timing} value, e.g. {@code bind;dur=0.210, model;dur=0.004, evaluate;dur=1.733, total;dur=2.101}:
+     * the recorded phases in order, then the time from the request's arrival to {@code end}.
+     */
+    String header(long end) {
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            if (recorded(phase)) {
+                appendMetric(header, phase.metric, durations[phase.ordinal()]);
+            }
+        }
+        appendMetric(header, "total", end - requestStart);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String metric, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(metric).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1e6));
+    }
+}
@@ -0,0 +1,378 @@
+package mn.dmn;
+
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.model.api.DecisionRule;
+import org.kie.dmn.model.api.DecisionTable;
+import org.kie.dmn.model.api.Expression;
+import org.kie.dmn.model.api.HitPolicy;
+import org.kie.dmn.model.api.InputClause;
+import org.kie.dmn.model.api.LiteralExpression;
+import org.kie.dmn.model.api.OutputClause;
+import org.kie.dmn.model.api.UnaryTests;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Primitive matcher for decision tables made only of numeric unary tests.
+ *
+ * <p>Tables qualify when their hit policy is FIRST or UNIQUE, every input is a
+ * plain reference to an input data node, every input entry is {@code -}, a
+ * comparison against a number ({@code >= 18}, {@code < 50000}, {@code = 49900}) or
+ * a numeric range, and the single output is a literal. For each input the
+ * distinct boundaries are kept in a sorted {@code double[]}; every elementary
+ * interval between (and at) these boundaries carries a bitset of the rules it
+ * satisfies. A lookup is one binary search per input followed by an AND of the
+ * bitsets, instead of interpreting every rule's FEEL tests in turn.</p>
+ *
+ * <p>Inputs the matcher cannot decide exactly (missing, {@code null} or
+ * non-numeric values, UNIQUE violations) return {@link #FALLBACK} so the caller
+ * can evaluate the decision with the KIE engine.</p>
+ */
+public final class FastDecisionTable {
+
+    /** Returned when the KIE engine has to evaluate the decision instead. */
+    public static final Object FALLBACK = new Object();
+
+    private static final Pattern COMPARISON = Pattern.compile("^(>=|<=|>|<|=)?\\s*(-?\\d+(?:\\.\\d+)?)$");
+    private static final Pattern RANGE = Pattern.compile("^([\\[(\\]])\\s*(-?\\d+(?:\\.\\d+)?)\\s*\\.\\.\\s*(-?\\d+(?:\\.\\d+)?)\\s*([\\])\\[])$");
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final long MAX_EXACT_LONG = 1L << 53;
+    private static final Pattern STRING_LITERAL = Pattern.compile("^\"([^\"\\\\]*)\"$");
+
+    private final String decisionName;
+    private final boolean unique;
+    private final String[] inputNames;
+    /** Sorted distinct boundaries per input. */
+    private final double[][] points;
+    /** Rule bitsets per input, indexed by elementary interval (2 * points + 1 of them). */
+    private final long[][][] masks;
+    private final Object[] outputs;
+    private final Object defaultOutput;
+    private final int words;
+
+    private FastDecisionTable(String decisionName, boolean unique, String[] inputNames, double[][] points,
+                              long[][][] masks, Object[] outputs, Object defaultOutput) {
+        this.decisionName = decisionName;
+        this.unique = unique;
+        this.inputNames = inputNames;
+        this.points = points;
+        this.masks = masks;
+        this.outputs = outputs;
+        this.defaultOutput = defaultOutput;
+        this.words = (outputs.length + 63) >>> 6;
+    }
+
+    public String getDecisionName() {
+        return decisionName;
+    }
+
+    public int getRuleCount() {
+        return outputs.length;
+    }
+
+    /**
+     * Evaluates the table for the given inputs.
+     *
+     * @return the output of the matching rule, the default output when no rule
+     * matches, or {@link #FALLBACK} when the inputs cannot be handled here
+     */
+    public Object evaluate(Map<String, Object> inputData) {
+        if (inputData == null) {
+            return FALLBACK;
+        }
+        long[] matched = null;
+        for (int i = 0; i < inputNames.length; i++) {
+            if (!(inputData.get(inputNames[i]) instanceof Number number)) {
+                return FALLBACK;
+            }
+            double value = exactDouble(number);
+            if (Double.isNaN(value)) {
+                return FALLBACK;
+            }
+            long[] mask = masks[i][segment(points[i], value)];
+            if (matched == null) {
+                matched = mask.clone();
+            } else {
+                for (int w = 0; w < words; w++) {
+                    matched[w] &= mask[w];
+                }
+            }
+        }
+
+        int first = -1;
+        for (int w = 0; w < words; w++) {
+            if (matched[w] != 0) {
+                first = (w << 6) + Long.numberOfTrailingZeros(matched[w]);
+                if (unique && (Long.bitCount(matched[w]) > 1 || hasMoreBits(matched, w + 1))) {
+                    // UNIQUE violation: let the engine report it
+                    return FALLBACK;
+                }
+                break;
+            }
+        }
+        return first < 0 ? defaultOutput : outputs[first];
+    }
+
+    /**
+     * The number as a double, or NaN when the conversion could change the outcome
+     * of a comparison the engine performs on {@link BigDecimal}s.
+     */
+    private static double exactDouble(Number number) {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return number.doubleValue();
+        }
+        if (number instanceof Long value) {
+            // Beyond 2^53 not every long has its own double
+            return value >= -MAX_EXACT_LONG && value <= MAX_EXACT_LONG ? value.doubleValue() : Double.NaN;
+        }
+        if (number instanceof BigDecimal value) {
+            // Up to 15 significant digits survive the round trip through a double
+            return value.precision() <= MAX_EXACT_DIGITS ? value.doubleValue() : Double.NaN;
+        }
+        if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+            return Double.isInfinite(value) ? Double.NaN : value;
+        }
+        return Double.NaN;
+    }
+
+    private static boolean hasMoreBits(long[] bits, int from) {
+        for (int w = from; w < bits.length; w++) {
+            if (bits[w] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Index of the elementary interval containing {@code value}: even indexes are
+     * the open intervals between boundaries, odd indexes the boundaries themselves.
+     */
+    private static int segment(double[] points, double value) {
+        int index = Arrays.binarySearch(points, value);
+        return index >= 0 ? 2 * index + 1 : 2 * (-index - 1);
+    }
+
+    /**
+     * Compiles the decision table behind the given decision, if it qualifies.
+     */
+    public static Optional<FastDecisionTable> compile(DMNModel model, DecisionNode decisionNode) {
+        if (decisionNode.getDecision() == null) {
+            return Optional.empty();
+        }
+        Expression expression = decisionNode.getDecision().getExpression();
+        if (!(expression instanceof DecisionTable table)) {
+            return Optional.empty();
+        }
+        if (table.getHitPolicy() != HitPolicy.FIRST && table.getHitPolicy() != HitPolicy.UNIQUE) {
+            return Optional.empty();
+        }
+        if (table.getOutput().size() != 1 || table.getInput().isEmpty() || table.getRule().isEmpty()) {
+            return Optional.empty();
+        }
+        OutputClause outputClause = table.getOutput().getFirst();
+        if (outputClause.getOutputValues() != null) {
+            return Optional.empty();
+        }
+
+        List<InputClause> inputs = table.getInput();
+        String[] inputNames = new String[inputs.size()];
+        for (int i = 0; i < inputs.size(); i++) {
+            InputClause input = inputs.get(i);
+            if (input.getInputValues() != null || input.getInputExpression() == null) {
+                return Optional.empty();
+            }
+            String name = input.getInputExpression().getText() == null ? null : input.getInputExpression().getText().trim();
+            if (name == null || model.getInputByName(name) == null) {
+                return Optional.empty();
+            }
+            inputNames[i] = name;
+        }
+
+        List<DecisionRule> rules = table.getRule();
+        Interval[][] tests = new Interval[inputs.size()][rules.size()];
+        Object[] outputs = new Object[rules.size()];
+        for (int r = 0; r < rules.size(); r++) {
+            DecisionRule rule = rules.get(r);
+            if (rule.getInputEntry().size() != inputs.size() || rule.getOutputEntry().size() != 1) {
+                return Optional.empty();
+            }
+            for (int i = 0; i < inputs.size(); i++) {
+                UnaryTests entry = rule.getInputEntry().get(i);
+                Interval interval = entry == null ? null : Interval.parse(entry.getText());
+                if (interval == null) {
+                    return Optional.empty();
+                }
+                tests[i][r] = interval;
+            }
+            Optional<Object> output = literal(rule.getOutputEntry().getFirst());
+            if (output.isEmpty()) {
+                return Optional.empty();
+            }
+            outputs[r] = output.get();
+        }
+
+        Object defaultOutput = null;
+        if (outputClause.getDefaultOutputEntry() != null) {
+            Optional<Object> parsed = literal(outputClause.getDefaultOutputEntry());
+            if (parsed.isEmpty()) {
+                return Optional.empty();
+            }
+            defaultOutput = parsed.get();
+        }
+
+        double[][] points = new double[inputs.size()][];
+        long[][][] masks = new long[inputs.size()][][];
+        int words = (rules.size() + 63) >>> 6;
+        for (int i = 0; i < inputs.size(); i++) {
+            TreeSet<Double> boundaries = new TreeSet<>();
+            for (Interval interval : tests[i]) {
+                interval.addBoundaries(boundaries);
+            }
+            points[i] = boundaries.stream().mapToDouble(Double::doubleValue).toArray();
+            masks[i] = new long[2 * points[i].length + 1][words];
+            for (int segment = 0; segment < masks[i].length; segment++) {
+                double representative = representative(points[i], segment);
+                for (int r = 0; r < rules.size(); r++) {
+                    if (tests[i][r].contains(representative)) {
+                        masks[i][segment][r >>> 6] |= 1L << (r & 63);
+                    }
+                }
+            }
+        }
+
+        return Optional.of(new FastDecisionTable(decisionNode.getName(), table.getHitPolicy() == HitPolicy.UNIQUE,
+                inputNames, points, masks, outputs, defaultOutput));
+    }
+
+    /**
+     * A value inside the given elementary interval; boundaries only occur at the
+     * points, so membership of this value decides membership of the whole interval.
+     */
+    private static double representative(double[] points, int segment) {
+        if (segment % 2 == 1) {
+            return points[segment / 2];
+        }
+        int upper = segment / 2;
+        if (points.length == 0) {
+            return 0;
+        }
+        if (upper == 0) {
+            return points[0] - 1;
+        }
+        if (upper == points.length) {
+            return points[points.length - 1] + 1;
+        }
+        return points[upper - 1] + (points[upper] - points[upper - 1]) / 2;
+    }
+
+    private static Optional<Object> literal(LiteralExpression expression) {
+        if (expression == null || expression.getText() == null) {
+            return Optional.empty();
+        }
+        String text = expression.getText().trim();
+        switch (text) {
+            case "true" -> {
+                return Optional.of(Boolean.TRUE);
+            }
+            case "false" -> {
+                return Optional.of(Boolean.FALSE);
+            }
+            case "null" -> {
+                // Optional cannot hold null; a table returning null is left to the engine
+                return Optional.empty();
+            }
+            default -> {
+            }
+        }
+        Matcher string = STRING_LITERAL.matcher(text);
+        if (string.matches()) {
+            return Optional.of(string.group(1));
+        }
+        try {
+            return Optional.of(new BigDecimal(text));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A numeric unary test as an interval; {@code -} is the unbounded interval.
+     */
+    static final class Interval {
+
+        private final double lower;
+        private final boolean lowerInclusive;
+        private final double upper;
+        private final boolean upperInclusive;
+
+        Interval(double lower, boolean lowerInclusive, double upper, boolean upperInclusive) {
+            this.lower = lower;
+            this.lowerInclusive = lowerInclusive;
+            this.upper = upper;
+            this.upperInclusive = upperInclusive;
+        }
+
+        static Interval parse(String text) {
+            if (text == null) {
+                return null;
+            }
+            String test = text.trim();
+            if (test.equals("-") || test.isEmpty()) {
+                return new Interval(Double.NEGATIVE_INFINITY, false, Double.POSITIVE_INFINITY, false);
+            }
+            Matcher comparison = COMPARISON.matcher(test);
+            if (comparison.matches()) {
+                if (!isExact(comparison.group(2))) {
+                    return null;
+                }
+                double value = Double.parseDouble(comparison.group(2));
+                String operator = comparison.group(1) == null ? "=" : comparison.group(1);
+                return switch (operator) {
+                    case ">=" -> new Interval(value, true, Double.POSITIVE_INFINITY, false);
+                    case ">" -> new Interval(value, false, Double.POSITIVE_INFINITY, false);
+                    case "<=" -> new Interval(Double.NEGATIVE_INFINITY, false, value, true);
+                    case "<" -> new Interval(Double.NEGATIVE_INFINITY, false, value, false);
+                    default -> new Interval(value, true, value, true);
+                };
+            }
+            Matcher range = RANGE.matcher(test);
+            if (range.matches()) {
+                if (!isExact(range.group(2)) || !isExact(range.group(3))) {
+                    return null;
+                }
+                return new Interval(Double.parseDouble(range.group(2)), range.group(1).equals("["),
+                        Double.parseDouble(range.group(3)), range.group(4).equals("]"));
+            }
+            return null;
+        }
+
+        private static boolean isExact(String number) {
+            return new BigDecimal(number).precision() <= MAX_EXACT_DIGITS;
+        }
+
+        boolean contains(double value) {
+            boolean aboveLower = lowerInclusive ? value >= lower : value > lower;
+            boolean belowUpper = upperInclusive ? value <= upper : value < upper;
+            return aboveLower && belowUpper;
+        }
+
+        void addBoundaries(TreeSet<Double> boundaries) {
+            if (!Double.isInfinite(lower)) {
+                boundaries.add(lower);
+            }
+            if (!Double.isInfinite(upper)) {
+                boundaries.add(upper);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package mn.dmn;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in evaluation of independent DRG branches in parallel, for models whose
+ * expensive decisions only depend on input data and not on each other.
+ *
+ * <p>The levels come from the dependency index {@link CompiledDmnModel} builds when
+ * the model is compiled. The decisions of a level run concurrently on a dedicated
+ * fork-join pool; each is a separate engine call whose context holds the inputs and
+ * the results of the earlier levels, which the engine uses instead of evaluating
+ * those decisions again. The next level starts once all of them are done.</p>
+ *
+ * <p>Every call copies the context and allocates its own result, so this only pays
+ * off when the decisions of a level are expensive. It is enabled with
+ * {@code dmn.drg.parallel.enabled}, or per model with
+ * {@code dmn.drg.parallel.enabled.<dmnFile>}.</p>
+ */
+@ApplicationScoped
+public class ParallelDrgEvaluator {
+
+    @Inject
+    Config config;
+
+    @ConfigProperty(name = "dmn.drg.parallel.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "dmn.drg.parallelism", defaultValue = "0")
+    int parallelism;
+
+    private ForkJoinPool pool;
+
+    // Keyed by compiled models only, so it is bounded by the registry
+    private final ConcurrentMap<String, Boolean> enabledByModel = new ConcurrentHashMap<>();
+
+    private final LongAdder parallelEvaluations = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * The levels to evaluate {@code decisionNames} in, or {@code null} if the model is not
+     * evaluated in parallel or no level has two independent decisions to overlap.
+     */
+    List<List<String>> plan(CompiledDmnModel compiledModel, List<String> decisionNames) {
+        if (!isEnabled(compiledModel.getDmnFile())) {
+            return null;
+        }
+        for (String decisionName : decisionNames) {
+            if (decisionName == null || !compiledModel.hasDecision(decisionName)) {
+                return null;
+            }
+        }
+        List<List<String>> levels = compiledModel.evaluationLevels(decisionNames);
+        boolean independent = false;
+        for (List<String> level : levels) {
+            for (String decision : level) {
+                // Decisions of imported models are only reachable through the importing model's engine call
+                if (!compiledModel.hasDecision(decision)) {
+                    return null;
+                }
+            }
+            independent |= level.size() > 1;
+        }
+        return independent ? levels : null;
+    }
+
+    /**
+     * Evaluates {@code levels} in order, the decisions of each level concurrently.
+     */
+    Result evaluate(CompiledDmnModel compiledModel, List<List<String>> levels, Map<String, Object> inputData) {
+        parallelEvaluations.increment();
+        Map<String, Object> values = new HashMap<>();
+        for (List<String> level : levels) {
+            // Snapshot for this level's calls; decisions may evaluate to null
+            Map<String, Object> known = new HashMap<>(values);
+            List<CompletableFuture<DMNResult>> forked = new ArrayList<>(level.size() - 1);
+            for (int i = 1; i < level.size(); i++) {
+                String decision = level.get(i);
+                forked.add(CompletableFuture.supplyAsync(() -> evaluate(compiledModel, decision, inputData, known), pool));
+            }
+            // The calling thread takes the first decision instead of waiting idle
+            List<DMNResult> results = new ArrayList<>(level.size());
+            results.add(evaluate(compiledModel, level.getFirst(), inputData, known));
+            for (CompletableFuture<DMNResult> future : forked) {
+                results.add(future.join());
+            }
+
+            for (int i = 0; i < level.size(); i++) {
+                DMNResult result = results.get(i);
+                if (result.hasErrors()) {
+                    StringBuilder errorMessage = new StringBuilder("DMN evaluation errors: ");
+                    result.getMessages().forEach(msg -> errorMessage.append(msg.getText()).append("; "));
+                    return new Result(null, errorMessage.toString());
+                }
+                DMNDecisionResult decisionResult = result.getDecisionResultByName(level.get(i));
+                values.put(level.get(i), decisionResult == null ? null : decisionResult.getResult());
+            }
+        }
+        return new Result(values, null);
+    }
+
+    private static DMNResult evaluate(CompiledDmnModel compiledModel, String decision, Map<String, Object> inputData,
+                                      Map<String, Object> known) {
+        DMNRuntime runtime = compiledModel.getRuntime();
+        DMNContext context = runtime.newContext();
+        if (inputData != null) {
+            inputData.forEach(context::set);
+        }
+        known.forEach(context::set);
+        return runtime.evaluateByName(compiledModel.getModel(), context, decision);
+    }
+
+    private boolean isEnabled(String dmnFile) {
+        Boolean modelEnabled = enabledByModel.get(dmnFile);
+        if (modelEnabled == null) {
+            modelEnabled = config == null
+                    ? enabled
+                    : config.getOptionalValue("dmn.drg.parallel.enabled." + dmnFile, Boolean.class).orElse(enabled);
+            enabledByModel.put(dmnFile, modelEnabled);
+        }
+        return modelEnabled;
+    }
+
+    public long getParallelEvaluations() {
+        return parallelEvaluations.sum();
+    }
+
+    /**
+     * Value of every evaluated decision, or the error that stopped the evaluation.
+     */
+    record Result(Map<String, Object> values, String error) {}
+}
@@ -0,0 +1,145 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@TestProfile(DmnArtifactStoreTest.WithArtifactsDir.class)
+@DisplayName("DMN Artifact Store Tests")
+class DmnArtifactStoreTest {
+
+    // A fixed path: the profile and the test are loaded by different class loaders
+    static final Path ARTIFACTS_DIR = Path.of("target", "dmn-artifacts-test").toAbsolutePath();
+
+    public static class WithArtifactsDir implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("dmn.artifacts.dir", ARTIFACTS_DIR.toString(),
+                    "dmn.feel.mode.models/feel-override", "compiled");
+        }
+    }
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @Inject
+    DmnArtifactStore artifactStore;
+
+    @Inject
+    DmnModelStore modelStore;
+
+    @Inject
+    DmnResultCache resultCache;
+
+    @Inject
+    DmnMetrics metrics;
+
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("sample-decision.dmn")) {
+            // A unique comment gives every test its own fingerprint
+            content = new String(in.readAllBytes(), StandardCharsets.UTF_8)
+                    .concat("<!-- " + UUID.randomUUID() + " -->")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    @DisplayName("Should store deployed content only, and remove it once no version refers to it")
+    void shouldRetainDeployedContentOnly() {
+        // Given - a model compiled from a file and one deployed by id
+        String fingerprint = DmnModelRegistry.fingerprint(content);
+        modelRegistry.compile("artifact-test.dmn", fingerprint, content);
+        assertFalse(Files.exists(ARTIFACTS_DIR.resolve(fingerprint + ".dmn")), "File models should not be stored");
+        String id = "pruned-" + UUID.randomUUID();
+        modelStore.deploy(id, content);
+        assertTrue(Files.isRegularFile(ARTIFACTS_DIR.resolve(fingerprint + ".dmn")), "Artifact should be written");
+
+        // When
+        modelStore.delete(id);
+
+        // Then
+        assertFalse(Files.exists(ARTIFACTS_DIR.resolve(fingerprint + ".dmn")), "Unreferenced artifact should be removed");
+    }
+
+    @Test
+    @DisplayName("Should compile a model deployed without an id in the FEEL mode configured for its derived id")
+    void shouldApplyFeelModeOfDerivedId() {
+        // Given - content whose model name derives the id "feel-override"
+        byte[] named = new String(content, StandardCharsets.UTF_8)
+                .replace("name=\"Sample Decision\"", "name=\"Feel Override\"")
+                .getBytes(StandardCharsets.UTF_8);
+
+        // When
+        DmnModelInfo info = modelStore.deploy(null, named);
+
+        // Then
+        assertEquals("feel-override", info.getId());
+        CompiledDmnModel model = modelStore.get("feel-override", info.getLatestVersion());
+        assertEquals(DmnModelRegistry.FeelMode.COMPILED, model.getFeelMode());
+        assertEquals("models/feel-override", model.getDmnFile());
+        modelStore.delete("feel-override");
+    }
+
+    @Test
+    @DisplayName("Should ignore an artifact whose content does not match its fingerprint")
+    void shouldIgnoreCorruptArtifact() throws IOException {
+        String fingerprint = DmnModelRegistry.fingerprint(content);
+        Files.write(ARTIFACTS_DIR.resolve(fingerprint + ".dmn"), "<definitions/>".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(artifactStore.load(fingerprint).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should restore deployed models with their versions and pin after a restart")
+    void shouldRestoreDeployments() {
+        // Given
+        String id = "restored-" + UUID.randomUUID();
+        modelStore.deploy(id, content);
+        byte[] second = new String(content, StandardCharsets.UTF_8)
+                .replace("<text>true</text>", "<text>false</text>")
+                .getBytes(StandardCharsets.UTF_8);
+        modelStore.deploy(id, second);
+        modelStore.pin(id, 1);
+
+        // When - a fresh store, as after a restart
+        DmnModelStore restarted = new DmnModelStore();
+        restarted.modelRegistry = modelRegistry;
+        restarted.resultCache = resultCache;
+        restarted.metrics = metrics;
+        restarted.artifactStore = artifactStore;
+        restarted.maxVersions = 10;
+        assertFalse(restarted.isRestored(), "Should not be ready before restoring");
+        restarted.restore();
+
+        // Then
+        DmnModelInfo info = restarted.getInfo(id);
+        assertTrue(restarted.isRestored());
+        assertNotNull(info, "Deployed model should be restored");
+        assertEquals(2, info.getVersions().size());
+        assertEquals(1, info.getPinnedVersion());
+        assertEquals(1, info.getActiveVersion());
+        assertEquals(DmnModelRegistry.fingerprint(second), restarted.get(id, 2).getFingerprint());
+
+        // New uploads continue the numbering
+        assertEquals(3, restarted.deploy(id, new String(content, StandardCharsets.UTF_8).concat("<!-- v3 -->")
+                .getBytes(StandardCharsets.UTF_8)).getLatestVersion());
+    }
+}
@@ -0,0 +1,233 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@TestProfile(DmnBulkheadsTest.SmallBulkheads.class)
+@DisplayName("DMN Bulkhead Tests")
+class DmnBulkheadsTest {
+
+    private static final String LIMITED_FILE = "limited-model.dmn";
+
+    public static class SmallBulkheads implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "dmn.bulkhead.max-concurrent." + LIMITED_FILE, "1",
+                    "dmn.bulkhead.queue-size." + LIMITED_FILE, "1",
+                    "dmn.bulkhead.max-concurrent.sample-decision.dmn", "1",
+                    "dmn.bulkhead.queue-size.sample-decision.dmn", "0");
+        }
+    }
+
+    @Inject
+    DmnBulkheads bulkheads;
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @Inject
+    DmnModelStore modelStore;
+
+    @Nested
+    @DisplayName("Concurrency Limits")
+    class ConcurrencyLimitTests {
+
+        @Test
+        @DisplayName("Should queue up to the queue size and reject beyond it")
+        void shouldQueueThenReject() throws Exception {
+            // Given - one running evaluation that holds the only slot
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletionStage<String> running = bulkheads.submit(LIMITED_FILE, () -> {
+                started.countDown();
+                await(release);
+                return "first";
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // When
+            CompletionStage<String> queued = bulkheads.submit(LIMITED_FILE, () -> "second");
+            CompletionStage<String> rejected = bulkheads.submit(LIMITED_FILE, () -> "third");
+
+            // Then
+            CompletionException failure = assertThrows(CompletionException.class, () -> rejected.toCompletableFuture().join());
+            assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+            assertFalse(queued.toCompletableFuture().isDone(), "Queued evaluation should wait for the running one");
+
+            release.countDown();
+            assertEquals("first", running.toCompletableFuture().get(5, TimeUnit.SECONDS));
+            assertEquals("second", queued.toCompletableFuture().get(5, TimeUnit.SECONDS));
+
+            DmnBulkheadStats stats = bulkheads.getStats().stream()
+                    .filter(s -> s.getDmnFile().equals(LIMITED_FILE))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(2, stats.getAccepted());
+            assertEquals(1, stats.getRejected());
+            assertEquals(0, stats.getQueued());
+        }
+
+        @Test
+        @DisplayName("Should not let a full bulkhead block other models")
+        void shouldIsolateModels() throws Exception {
+            // Given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletionStage<String> busy = bulkheads.submit("isolated-busy.dmn", () -> {
+                started.countDown();
+                await(release);
+                return "busy";
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // When
+            String other = bulkheads.submit("isolated-other.dmn", () -> "other").toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals("other", other);
+            release.countDown();
+            assertEquals("busy", busy.toCompletableFuture().get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulkhead Keys")
+    class KeyTests {
+
+        @Test
+        @DisplayName("Should key requests by the loaded model, sharing one bulkhead for anything not loaded")
+        void shouldKeyByLoadedModel() {
+            // Given
+            CompiledDmnModel sample = modelRegistry.get("sample-decision.dmn");
+
+            // Then
+            assertEquals("sample-decision.dmn", bulkheads.keyFor("sample-decision.dmn", null, null));
+            // Other tests load copies of the sample under the same name; the latest one is indexed
+            String namespace = sample.getModel().getNamespace();
+            String name = sample.getModel().getName();
+            assertEquals(modelRegistry.getByName(namespace, name).getDmnFile(), bulkheads.keyFor(null, namespace, name));
+            assertEquals(DmnBulkheads.OVERFLOW, bulkheads.keyFor("no-such-model.dmn", null, null));
+            assertEquals(DmnBulkheads.OVERFLOW, bulkheads.keyFor(null, "https://example.com/none", "None"));
+        }
+
+        @Test
+        @DisplayName("Should not create bulkheads for files that do not exist")
+        void shouldNotCreateBulkheadForMissingFile() {
+            given()
+                    .contentType(ContentType.JSON)
+                    .body(Map.of("dmnFile", "probe-" + System.nanoTime() + ".dmn", "inputData", Map.of()))
+                    .when()
+                    .post("/dmn/evaluate")
+                    .then()
+                    .statusCode(500);
+
+            assertTrue(bulkheads.getStats().stream().noneMatch(stats -> stats.getDmnFile().startsWith("probe-")));
+        }
+
+        @Test
+        @DisplayName("Should remove the bulkhead of a deleted model")
+        void shouldRemoveBulkheadWithModel() throws Exception {
+            // Given
+            String id = "bulkhead-" + System.nanoTime();
+            byte[] content;
+            try (var in = getClass().getClassLoader().getResourceAsStream("sample-decision.dmn")) {
+                content = in.readAllBytes();
+            }
+            modelStore.deploy(id, content);
+            String dmnFile = modelStore.get(id, null).getDmnFile();
+            bulkheads.submit(dmnFile, () -> true).toCompletableFuture().get(5, TimeUnit.SECONDS);
+            assertTrue(bulkheads.getStats().stream().anyMatch(stats -> stats.getDmnFile().equals(dmnFile)));
+
+            // When
+            modelStore.delete(id);
+
+            // Then
+            assertTrue(bulkheads.getStats().stream().noneMatch(stats -> stats.getDmnFile().equals(dmnFile)));
+        }
+    }
+
+    @Nested
+    @DisplayName("HTTP Behavior")
+    class HttpTests {
+
+        @Test
+        @DisplayName("Should answer 429 with Retry-After when the model's bulkhead is full")
+        void shouldReturn429WhenFull() throws Exception {
+            // Given - the only slot of sample-decision.dmn is taken
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletionStage<Boolean> busy = bulkheads.submit("sample-decision.dmn", () -> {
+                started.countDown();
+                await(release);
+                return true;
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            try {
+                // When & Then
+                given()
+                        .contentType(ContentType.JSON)
+                        .body(Map.of("dmnFile", "sample-decision.dmn",
+                                "decisionName", "Approval Decision",
+                                "inputData", Map.of("age", 25, "income", 50000)))
+                        .when()
+                        .post("/dmn/evaluate")
+                        .then()
+                        .statusCode(429)
+                        .header("Retry-After", "1")
+                        .body("success", equalTo(false))
+                        .body("error", containsString("sample-decision.dmn"));
+            } finally {
+                release.countDown();
+                busy.toCompletableFuture().get(5, TimeUnit.SECONDS);
+            }
+
+            // Once the slot is free the same request goes through
+            given()
+                    .contentType(ContentType.JSON)
+                    .body(Map.of("dmnFile", "sample-decision.dmn",
+                            "decisionName", "Approval Decision",
+                            "inputData", Map.of("age", 25, "income", 50000)))
+                    .when()
+                    .post("/dmn/evaluate")
+                    .then()
+                    .statusCode(200)
+                    .body("success", equalTo(true));
+
+            given()
+                    .when()
+                    .get("/dmn/bulkheads")
+                    .then()
+                    .statusCode(200)
+                    .body("find { it.dmnFile == 'sample-decision.dmn' }.maxConcurrent", equalTo(1))
+                    .body("find { it.dmnFile == 'sample-decision.dmn' }.rejected", greaterThanOrEqualTo(1));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
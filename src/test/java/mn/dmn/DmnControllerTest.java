@@ -6,11 +6,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @QuarkusTest
 @DisplayName("DMN Controller REST API Tests")
@@ -39,6 +43,82 @@ class DmnControllerTest {
                     .body("error", nullValue());
         }
 
+        @Test
+        @DisplayName("Should omit the reason when the caller does not want it")
+        void shouldOmitReasonWhenNotRequested() {
+            Map<String, Object> requestBody = createValidRequest(25, 50000, "apply");
+
+            given()
+                    .contentType(ContentType.JSON)
+                    .queryParam("includeReason", false)
+                    .body(requestBody)
+                    .when()
+                    .post("/dmn/evaluate")
+                    .then()
+                    .statusCode(200)
+                    .body("success", equalTo(true))
+                    .body("result", equalTo(true))
+                    .body("$", not(hasKey("reason")));
+        }
+
+        @Test
+        @DisplayName("Should return the typed decision output when asked for it")
+        void shouldIncludeTypedValueWhenRequested() {
+            Map<String, Object> requestBody = createValidRequest(25, 50000, "apply");
+
+            given()
+                    .contentType(ContentType.JSON)
+                    .queryParam("includeReason", false)
+                    .queryParam("includeValue", true)
+                    .body(requestBody)
+                    .when()
+                    .post("/dmn/evaluate")
+                    .then()
+                    .statusCode(200)
+                    .body("success", equalTo(true))
+                    .body("value", equalTo(true))
+                    .body("$", not(hasKey("reason")));
+        }
+
+        @Test
+        @DisplayName("Should report the time of each phase in a Server-Timing header")
+        void shouldReportServerTiming() {
+            Map<String, Object> requestBody = createValidRequest(25, 50000, "apply");
+
+            given()
+                    .contentType(ContentType.JSON)
+                    .header(DmnController.CACHE_HEADER, "bypass")
+                    .body(requestBody)
+                    .when()
+                    .post("/dmn/evaluate")
+                    .then()
+                    .statusCode(200)
+                    .header(DmnServerTiming.HEADER, containsString("bind;dur="))
+                    .header(DmnServerTiming.HEADER, containsString("model;dur="))
+                    .header(DmnServerTiming.HEADER, matchesPattern(".*(fastpath|evaluate);dur=.*"))
+                    .header(DmnServerTiming.HEADER, matchesPattern(".*total;dur=\\d+\\.\\d{3}$"));
+        }
+
+        @Test
+        @DisplayName("Should evaluate a loaded model by namespace and name")
+        void shouldEvaluateByModelName() {
+            Map<String, Object> requestBody = Map.of(
+                    "namespace", "https://example.com/dmn",
+                    "modelName", "Sample Decision",
+                    "decisionName", "Approval Decision",
+                    "inputData", Map.of("age", 25, "income", 50000));
+
+            given()
+                    .contentType(ContentType.JSON)
+                    .body(requestBody)
+                    .when()
+                    .post("/dmn/evaluate")
+                    .then()
+                    .statusCode(200)
+                    .body("success", equalTo(true))
+                    .body("result", equalTo(true));
+        }
+
 //        @Test
 //        @DisplayName("Should return 200 for valid rejection request")
 //        void shouldReturn200ForValidRejectionRequest() {
@@ -202,6 +282,139 @@ class DmnControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /dmn/evaluate/batch")
+    class BatchEndpointTests {
+
+        @Test
+        @DisplayName("Should return results in input order")
+        void shouldReturnResultsInInputOrder() {
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("dmnFile", "sample-decision.dmn");
+            requestBody.put("decisionName", "Approval Decision");
+            requestBody.put("inputData", List.of(
+                    createInputData(25, 50000, "apply"),
+                    createInputData(25, 20000, "apply"),
+                    createInputData(16, 55000, "apply")));
+
+            given()
+                    .contentType(ContentType.JSON)
+                    .body(requestBody)
+                    .when()
+                    .post("/dmn/evaluate/batch")
+                    .then()
+                    .statusCode(200)
+                    .body("success", equalTo(true))
+                    .body("results", hasSize(3))
+                    .body("results.result", contains(true, false, true))
+                    .body("results.success", everyItem(equalTo(true)));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for missing DMN file")
+        void shouldReturn400ForMissingDmnFile() {
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("inputData", List.of(createInputData(25, 50000, "apply")));
+
+            given()
+                    .contentType(ContentType.JSON)
+                    .body(requestBody)
+                    .when()
+                    .post("/dmn/evaluate/batch")
+                    .then()
+                    .statusCode(400)
+                    .body("success", equalTo(false))
+                    .body("error", containsString("DMN file path is required"));
+        }
+
+        @Test
+        @DisplayName("Should return 500 for non-existent DMN file")
+        void shouldReturn500ForNonExistentDmnFile() {
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("dmnFile", "non-existent.dmn");
+            requestBody.put("inputData", List.of(createInputData(25, 50000, "apply")));
+
+            given()
+                    .contentType(ContentType.JSON)
+                    .body(requestBody)
+                    .when()
+                    .post("/dmn/evaluate/batch")
+                    .then()
+                    .statusCode(500)
+                    .body("success", equalTo(false))
+                    .body("error", containsString("non-existent.dmn"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /dmn/evaluate/stream")
+    class StreamEndpointTests {
+
+        @Test
+        @DisplayName("Should stream NDJSON results")
+        void shouldStreamNdjsonResults() {
+            String body = given()
+                    .contentType("application/x-ndjson")
+                    .queryParam("dmnFile", "sample-decision.dmn")
+                    .queryParam("decisionName", "Approval Decision")
+                    .body("{\"age\": 25, \"income\": 50000}\n{\"age\": 25, \"income\": 20000}\n".getBytes(StandardCharsets.UTF_8))
+                    .when()
+                    .post("/dmn/evaluate/stream")
+                    .then()
+                    .statusCode(200)
+                    .contentType("application/x-ndjson")
+                    .extract().asString();
+
+            List<String> lines = body.lines().toList();
+            assertEquals(2, lines.size());
+            assertTrue(lines.get(0).contains("\"result\":true"));
+            assertTrue(lines.get(1).contains("\"result\":false"));
+        }
+
+        @Test
+        @DisplayName("Should stream CSV input with column mapping")
+        void shouldStreamCsvInput() {
+            given()
+                    .contentType("text/csv")
+                    .queryParam("dmnFile", "sample-decision.dmn")
+                    .queryParam("decisionName", "Approval Decision")
+                    .queryParam("mapping", "years:age")
+                    .body("years,income\n16,55000\n".getBytes(StandardCharsets.UTF_8))
+                    .when()
+                    .post("/dmn/evaluate/stream")
+                    .then()
+                    .statusCode(200)
+                    .body(containsString("\"result\":true"));
+        }
+
+        @Test
+        @DisplayName("Should return 500 for non-existent DMN file")
+        void shouldReturn500ForNonExistentDmnFile() {
+            given()
+                    .contentType("application/x-ndjson")
+                    .queryParam("dmnFile", "non-existent.dmn")
+                    .body("{\"age\": 25}\n".getBytes(StandardCharsets.UTF_8))
+                    .when()
+                    .post("/dmn/evaluate/stream")
+                    .then()
+                    .statusCode(500)
+                    .body("error", containsString("non-existent.dmn"));
+        }
+
+        @Test
+        @DisplayName("Should refuse local file scoring when no input directory is configured")
+        void shouldRefuseLocalFileWithoutInputDir() {
+            given()
+                    .queryParam("dmnFile", "sample-decision.dmn")
+                    .queryParam("path", "/etc/passwd")
+                    .when()
+                    .post("/dmn/evaluate/stream/file")
+                    .then()
+                    .statusCode(400)
+                    .body("error", containsString("dmn.stream.input-dir"));
+        }
+    }
+
     @Nested
     @DisplayName("GET /dmn/health")
     class HealthEndpointTests {
@@ -228,6 +441,19 @@ class DmnControllerTest {
                     .statusCode(200)
                     .contentType(ContentType.JSON);
         }
+
+        @Test
+        @DisplayName("Should report precompiled models in health check")
+        void shouldReportPrecompiledModels() {
+            given()
+                    .when()
+                    .get("/dmn/health")
+                    .then()
+                    .statusCode(200)
+                    .body("models.dmnFile", hasItem("sample-decision.dmn"))
+                    .body("models.find { it.dmnFile == 'sample-decision.dmn' }.state", equalTo("READY"))
+                    .body("models.find { it.dmnFile == 'sample-decision.dmn' }.compileTimeMs", notNullValue());
+        }
     }
 
     @Nested
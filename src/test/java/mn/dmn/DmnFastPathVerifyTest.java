@@ -0,0 +1,134 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@TestProfile(DmnFastPathVerifyTest.VerifyWithParallelDrg.class)
+@DisplayName("DMN Fast Path Verify Mode Tests")
+class DmnFastPathVerifyTest {
+
+    public static class VerifyWithParallelDrg implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("dmn.fastpath.mode", "verify", "dmn.drg.parallel.enabled", "true");
+        }
+    }
+
+    @Inject
+    DmnService dmnService;
+
+    @Inject
+    ParallelDrgEvaluator parallelEvaluator;
+
+    @Test
+    @DisplayName("Should compare the fast path with the engine when the decision is evaluated in parallel")
+    void shouldVerifyParallelEvaluation() throws Exception {
+        // Given - a fast path table whose required decisions are planned as one parallel level
+        Path dmnFile = Files.createTempDirectory("dmn-verify").resolve("scored-approval.dmn");
+        Files.writeString(dmnFile, SCORED_APPROVAL_DMN);
+        DmnFastPathStats before = dmnService.getFastPathStats();
+        long parallelBefore = parallelEvaluator.getParallelEvaluations();
+
+        // When
+        DmnResponse approved = evaluate(dmnFile, 30, 60000);
+        DmnResponse rejected = evaluate(dmnFile, 30, 10000);
+
+        // Then
+        assertTrue(approved.isSuccess(), approved::getError);
+        assertTrue(approved.isResult());
+        assertFalse(rejected.isResult());
+        assertEquals(parallelBefore + 2, parallelEvaluator.getParallelEvaluations(), "Should evaluate in parallel");
+        DmnFastPathStats after = dmnService.getFastPathStats();
+        assertEquals(before.getHits() + 2, after.getHits(), "Every evaluation should be compared");
+        assertEquals(before.getMismatches(), after.getMismatches());
+    }
+
+    private DmnResponse evaluate(Path dmnFile, int age, int income) {
+        DmnRequest request = new DmnRequest();
+        request.setDmnFile(dmnFile.toString());
+        request.setDecisionName("Approval");
+        request.setInputData(Map.of("age", age, "income", income));
+        return dmnService.evaluateDecision(request, true);
+    }
+
+    // Approval is a fast path table that also requires two scores depending only on inputs
+    private static final String SCORED_APPROVAL_DMN = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <definitions xmlns="https://www.omg.org/spec/DMN/20191111/MODEL/" id="scoredApproval" name="Scored Approval"
+                         namespace="https://example.com/scored-approval">
+              <inputData id="income" name="income">
+                <variable id="incomeVar" name="income" typeRef="number" />
+              </inputData>
+              <inputData id="age" name="age">
+                <variable id="ageVar" name="age" typeRef="number" />
+              </inputData>
+              <decision id="incomeScore" name="Income Score">
+                <variable id="incomeScoreVar" name="Income Score" typeRef="number" />
+                <informationRequirement id="incomeScoreIncome">
+                  <requiredInput href="#income" />
+                </informationRequirement>
+                <literalExpression id="incomeScoreBody">
+                  <text>income / 1000</text>
+                </literalExpression>
+              </decision>
+              <decision id="ageScore" name="Age Score">
+                <variable id="ageScoreVar" name="Age Score" typeRef="number" />
+                <informationRequirement id="ageScoreAge">
+                  <requiredInput href="#age" />
+                </informationRequirement>
+                <literalExpression id="ageScoreBody">
+                  <text>age * 2</text>
+                </literalExpression>
+              </decision>
+              <decision id="approval" name="Approval">
+                <variable id="approvalVar" name="Approval" typeRef="boolean" />
+                <informationRequirement id="approvalIncomeScore">
+                  <requiredDecision href="#incomeScore" />
+                </informationRequirement>
+                <informationRequirement id="approvalAgeScore">
+                  <requiredDecision href="#ageScore" />
+                </informationRequirement>
+                <informationRequirement id="approvalIncome">
+                  <requiredInput href="#income" />
+                </informationRequirement>
+                <informationRequirement id="approvalAge">
+                  <requiredInput href="#age" />
+                </informationRequirement>
+                <decisionTable id="approvalTable" hitPolicy="FIRST">
+                  <input id="approvalAgeInput" label="age">
+                    <inputExpression id="approvalAgeExpression" typeRef="number">
+                      <text>age</text>
+                    </inputExpression>
+                  </input>
+                  <input id="approvalIncomeInput" label="income">
+                    <inputExpression id="approvalIncomeExpression" typeRef="number">
+                      <text>income</text>
+                    </inputExpression>
+                  </input>
+                  <output id="approvalOutput" name="Approval" typeRef="boolean" />
+                  <rule id="approvalRule1">
+                    <inputEntry id="approvalRule1Age"><text>&gt;= 18</text></inputEntry>
+                    <inputEntry id="approvalRule1Income"><text>&gt;= 50000</text></inputEntry>
+                    <outputEntry id="approvalRule1Output"><text>true</text></outputEntry>
+                  </rule>
+                  <rule id="approvalRule2">
+                    <inputEntry id="approvalRule2Age"><text>-</text></inputEntry>
+                    <inputEntry id="approvalRule2Income"><text>-</text></inputEntry>
+                    <outputEntry id="approvalRule2Output"><text>false</text></outputEntry>
+                  </rule>
+                </decisionTable>
+              </decision>
+            </definitions>
+            """;
+}
@@ -0,0 +1,258 @@
+package mn.dmn;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.quarkus.grpc.GrpcClient;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Multi;
+import mn.dmn.grpc.BatchRequest;
+import mn.dmn.grpc.BatchResponse;
+import mn.dmn.grpc.DmnEvaluator;
+import mn.dmn.grpc.EvaluateRequest;
+import mn.dmn.grpc.EvaluateResponse;
+import mn.dmn.grpc.InputSet;
+import mn.dmn.grpc.Value;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("DMN gRPC Service Tests")
+class DmnGrpcServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @GrpcClient
+    DmnEvaluator client;
+
+    @Nested
+    @DisplayName("Unary")
+    class UnaryTests {
+
+        @Test
+        @DisplayName("Should evaluate a decision like POST /dmn/evaluate")
+        void shouldEvaluate() {
+            EvaluateResponse response = client.evaluate(request(25, 50000).build()).await().atMost(TIMEOUT);
+
+            assertTrue(response.getSuccess(), response.getError());
+            assertTrue(response.getResult());
+            assertTrue(response.getReason().contains("Approval Decision"));
+        }
+
+        @Test
+        @DisplayName("Should accept decimal inputs and leave out the reason on request")
+        void shouldAcceptDecimalsAndOmitReason() {
+            EvaluateRequest request = request(25, 0)
+                    .putInputData("income", Value.newBuilder().setDecimalValue("20000.50").build())
+                    .setOmitReason(true)
+                    .build();
+
+            EvaluateResponse response = client.evaluate(request).await().atMost(TIMEOUT);
+
+            assertTrue(response.getSuccess(), response.getError());
+            assertFalse(response.getResult());
+            assertEquals("", response.getReason());
+        }
+
+        @Test
+        @DisplayName("Should return the typed value of each requested decision with include_value")
+        void shouldIncludeTypedValues() {
+            EvaluateRequest request = request(25, 50000)
+                    .clearDecisionName()
+                    .addDecisionNames("Approval Decision")
+                    .setIncludeValue(true)
+                    .setOmitReason(true)
+                    .build();
+
+            EvaluateResponse response = client.evaluate(request).await().atMost(TIMEOUT);
+
+            assertTrue(response.getSuccess(), response.getError());
+            assertTrue(response.getValue().getBoolValue());
+            assertEquals(1, response.getDecisionsCount());
+            assertTrue(response.getDecisions(0).getValue().getBoolValue());
+            assertEquals("", response.getDecisions(0).getReason());
+        }
+
+        @Test
+        @DisplayName("Should convert decision outputs the way the JSON value writes them")
+        void shouldConvertOutputsToValues() {
+            Map<String, Object> output = new LinkedHashMap<>();
+            output.put("score", new BigDecimal("12.50"));
+            output.put("tags", List.of("a", true, 3L));
+            output.put("due", LocalDate.of(2026, 1, 2));
+            output.put("none", null);
+
+            Map<String, Value> fields = DmnGrpcService.toValue(output).getMapValue().getFieldsMap();
+
+            assertEquals("12.50", fields.get("score").getDecimalValue());
+            assertEquals(List.of(Value.newBuilder().setStringValue("a").build(), Value.newBuilder().setBoolValue(true).build(),
+                    Value.newBuilder().setLongValue(3).build()), fields.get("tags").getListValue().getValuesList());
+            assertEquals("2026-01-02", fields.get("due").getStringValue());
+            assertEquals(Value.KindCase.KIND_NOT_SET, fields.get("none").getKindCase());
+        }
+
+        @Test
+        @DisplayName("Should fail with INVALID_ARGUMENT without a model")
+        void shouldRejectMissingModel() {
+            EvaluateRequest request = EvaluateRequest.newBuilder().setDecisionName("Approval Decision").build();
+
+            StatusRuntimeException failure = assertThrows(StatusRuntimeException.class,
+                    () -> client.evaluate(request).await().atMost(TIMEOUT));
+
+            assertEquals(Status.Code.INVALID_ARGUMENT, failure.getStatus().getCode());
+        }
+
+        @Test
+        @DisplayName("Should fail with INVALID_ARGUMENT for a blank model namespace and name, like REST")
+        void shouldRejectBlankModelName() {
+            EvaluateRequest request = EvaluateRequest.newBuilder()
+                    .setNamespace("  ")
+                    .setModelName("  ")
+                    .setDecisionName("Approval Decision")
+                    .build();
+
+            StatusRuntimeException failure = assertThrows(StatusRuntimeException.class,
+                    () -> client.evaluate(request).await().atMost(TIMEOUT));
+
+            assertEquals(Status.Code.INVALID_ARGUMENT, failure.getStatus().getCode());
+        }
+
+        @Test
+        @DisplayName("Should fail with INVALID_ARGUMENT for a malformed decimal")
+        void shouldRejectMalformedDecimal() {
+            EvaluateRequest request = request(25, 0)
+                    .putInputData("income", Value.newBuilder().setDecimalValue("20,000").build())
+                    .build();
+
+            StatusRuntimeException failure = assertThrows(StatusRuntimeException.class,
+                    () -> client.evaluate(request).await().atMost(TIMEOUT));
+
+            assertEquals(Status.Code.INVALID_ARGUMENT, failure.getStatus().getCode());
+            assertEquals("Invalid decimal value: 20,000", failure.getStatus().getDescription());
+        }
+
+        @Test
+        @DisplayName("Should report evaluation errors in the response")
+        void shouldReturnEvaluationError() {
+            EvaluateRequest request = request(25, 50000).setDmnFile("missing.dmn").build();
+
+            EvaluateResponse response = client.evaluate(request).await().atMost(TIMEOUT);
+
+            assertFalse(response.getSuccess());
+            assertTrue(response.getError().contains("missing.dmn"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch")
+    class BatchTests {
+
+        @Test
+        @DisplayName("Should evaluate every input set in order")
+        void shouldEvaluateBatch() {
+            BatchRequest request = BatchRequest.newBuilder()
+                    .setDmnFile("sample-decision.dmn")
+                    .setDecisionName("Approval Decision")
+                    .addInputData(inputSet(25, 50000))
+                    .addInputData(inputSet(25, 20000))
+                    .build();
+
+            BatchResponse response = client.evaluateBatch(request).await().atMost(TIMEOUT);
+
+            assertTrue(response.getSuccess(), response.getError());
+            assertEquals(List.of(true, false), response.getResultsList().stream().map(EvaluateResponse::getResult).toList());
+        }
+
+        @Test
+        @DisplayName("Should fail with INVALID_ARGUMENT when an input set does not convert")
+        void shouldRejectMalformedInputSet() {
+            BatchRequest request = BatchRequest.newBuilder()
+                    .setDmnFile("sample-decision.dmn")
+                    .setDecisionName("Approval Decision")
+                    .addInputData(inputSet(25, 50000))
+                    .addInputData(InputSet.newBuilder().putValues("income", Value.newBuilder().setDecimalValue("x").build()))
+                    .build();
+
+            StatusRuntimeException failure = assertThrows(StatusRuntimeException.class,
+                    () -> client.evaluateBatch(request).await().atMost(TIMEOUT));
+
+            assertEquals(Status.Code.INVALID_ARGUMENT, failure.getStatus().getCode());
+            assertEquals("Input set 1: Invalid decimal value: x", failure.getStatus().getDescription());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bidirectional streaming")
+    class StreamTests {
+
+        @Test
+        @DisplayName("Should answer each streamed request in order, without failing the stream")
+        void shouldEvaluateStream() {
+            // Given - the second request names no model
+            Multi<EvaluateRequest> requests = Multi.createFrom().items(
+                    request(25, 50000).setCorrelationId("a").build(),
+                    EvaluateRequest.newBuilder().setCorrelationId("b").build(),
+                    request(25, 20000).setCorrelationId("c").build());
+
+            // When
+            List<EvaluateResponse> responses = client.evaluateStream(requests)
+                    .collect().asList()
+                    .await().atMost(TIMEOUT);
+
+            // Then
+            assertEquals(List.of("a", "b", "c"), responses.stream().map(EvaluateResponse::getCorrelationId).toList());
+            assertTrue(responses.get(0).getResult());
+            assertFalse(responses.get(1).getSuccess());
+            assertTrue(responses.get(2).getSuccess());
+            assertFalse(responses.get(2).getResult());
+        }
+
+        @Test
+        @DisplayName("Should answer a request with a malformed decimal and keep the stream open")
+        void shouldContinueAfterMalformedDecimal() {
+            // Given
+            Multi<EvaluateRequest> requests = Multi.createFrom().items(
+                    request(25, 0).putInputData("income", Value.newBuilder().setDecimalValue("lots").build())
+                            .setCorrelationId("bad").build(),
+                    request(25, 50000).setCorrelationId("good").build());
+
+            // When
+            List<EvaluateResponse> responses = client.evaluateStream(requests)
+                    .collect().asList()
+                    .await().atMost(TIMEOUT);
+
+            // Then
+            assertEquals(List.of("bad", "good"), responses.stream().map(EvaluateResponse::getCorrelationId).toList());
+            assertFalse(responses.get(0).getSuccess());
+            assertEquals("Invalid decimal value: lots", responses.get(0).getError());
+            assertTrue(responses.get(1).getSuccess(), responses.get(1).getError());
+            assertTrue(responses.get(1).getResult());
+        }
+    }
+
+    private static EvaluateRequest.Builder request(long age, long income) {
+        return EvaluateRequest.newBuilder()
+                .setDmnFile("sample-decision.dmn")
+                .setDecisionName("Approval Decision")
+                .putAllInputData(values(age, income));
+    }
+
+    private static InputSet inputSet(long age, long income) {
+        return InputSet.newBuilder().putAllValues(values(age, income)).build();
+    }
+
+    private static Map<String, Value> values(long age, long income) {
+        return Map.of(
+                "age", Value.newBuilder().setLongValue(age).build(),
+                "income", Value.newBuilder().setLongValue(income).build());
+    }
+}
@@ -0,0 +1,90 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+@DisplayName("DMN Metrics Tests")
+class DmnMetricsTest {
+
+    @Test
+    @DisplayName("Should publish evaluation latency percentiles per model and decision")
+    void shouldPublishEvaluationPercentiles() {
+        // Given
+        evaluate(Map.of("dmnFile", "sample-decision.dmn",
+                "decisionName", "Approval Decision",
+                "inputData", Map.of("age", 25, "income", 50000)));
+
+        // When / Then
+        given()
+                .when()
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("dmn_evaluation_seconds{decisionName=\"Approval Decision\",dmnFile=\"sample-decision.dmn\",outcome=\"success\",quantile=\"0.999\"}"))
+                .body(containsString("dmn_model_compile_seconds_count{dmnFile=\"sample-decision.dmn\",outcome=\"success\"}"))
+                .body(containsString("dmn_requests_in_flight{endpoint=\"evaluate\"}"));
+    }
+
+    @Test
+    @DisplayName("Should count errors by cause and not tag unknown decision names")
+    void shouldCountErrorsByCause() {
+        // Given
+        evaluate(Map.of("decisionName", "Approval Decision"));
+        evaluate(Map.of("dmnFile", "sample-decision.dmn",
+                "decisionName", "No Such Decision 42",
+                "inputData", Map.of("age", 25, "income", 50000)));
+
+        // When / Then
+        given()
+                .when()
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("dmn_errors_total{cause=\"invalid_request\"}"))
+                .body(containsString("dmn_errors_total{cause=\"decision_not_found\"}"))
+                .body(containsString("decisionName=\"unknown\""))
+                .body(not(containsString("No Such Decision 42")));
+    }
+
+    @Test
+    @DisplayName("Should count streamed rows per model and outcome")
+    void shouldCountStreamedRows() {
+        // Given
+        given()
+                .contentType("application/x-ndjson")
+                .queryParam("dmnFile", "sample-decision.dmn")
+                .queryParam("decisionName", "Approval Decision")
+                .body("{\"age\": 25, \"income\": 50000}\n{not json\n".getBytes(StandardCharsets.UTF_8))
+                .when()
+                .post("/dmn/evaluate/stream")
+                .then()
+                .statusCode(200);
+
+        // When / Then
+        given()
+                .when()
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("dmn_stream_rows_total{dmnFile=\"sample-decision.dmn\",outcome=\"success\"}"))
+                .body(containsString("dmn_stream_rows_total{dmnFile=\"sample-decision.dmn\",outcome=\"error\"}"))
+                .body(containsString("dmn_stream_active "));
+    }
+
+    private static void evaluate(Map<String, Object> requestBody) {
+        given()
+                .contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .post("/dmn/evaluate");
+    }
+}
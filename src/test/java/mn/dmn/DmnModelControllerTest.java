@@ -0,0 +1,202 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+@DisplayName("DMN Model Deployment API Tests")
+class DmnModelControllerTest {
+
+    private String sampleXml;
+    private String modelId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("sample-decision.dmn")) {
+            sampleXml = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        modelId = "approval-" + UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("Deploy")
+    class DeployTests {
+
+        @Test
+        @DisplayName("Should compile an upload once and return its id and version")
+        void shouldDeployModel() {
+            deploy(modelId, sampleXml)
+                    .statusCode(201)
+                    .header("Location", endsWith("/dmn/models/" + modelId))
+                    .body("id", equalTo(modelId))
+                    .body("name", equalTo("Sample Decision"))
+                    .body("activeVersion", equalTo(1))
+                    .body("latestVersion", equalTo(1))
+                    .body("versions[0].decisions", hasItem("Approval Decision"));
+        }
+
+        @Test
+        @DisplayName("Should keep the version when the same content is uploaded again")
+        void shouldNotVersionIdenticalUpload() {
+            deploy(modelId, sampleXml).statusCode(201);
+
+            deploy(modelId, sampleXml)
+                    .statusCode(201)
+                    .body("latestVersion", equalTo(1))
+                    .body("versions", hasSize(1));
+        }
+
+        @Test
+        @DisplayName("Should derive the id from the model name when none is given")
+        void shouldDeriveId() {
+            given()
+                    .contentType(ContentType.XML)
+                    .body(sampleXml)
+                    .when()
+                    .post("/dmn/models")
+                    .then()
+                    .statusCode(201)
+                    .body("id", equalTo("sample-decision"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for content that does not compile")
+        void shouldRejectInvalidModel() {
+            deploy(modelId, "<definitions>not a model")
+                    .statusCode(400)
+                    .body("success", equalTo(false));
+
+            given().when().get("/dmn/models/" + modelId).then().statusCode(404);
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an invalid id")
+        void shouldRejectInvalidId() {
+            deploy("../etc", sampleXml).statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Evaluate")
+    class EvaluateTests {
+
+        @Test
+        @DisplayName("Should evaluate a deployed model by id")
+        void shouldEvaluateById() {
+            deploy(modelId, sampleXml).statusCode(201);
+
+            evaluate(modelId, "")
+                    .statusCode(200)
+                    .body("success", equalTo(true))
+                    .body("result", equalTo(true));
+        }
+
+        @Test
+        @DisplayName("Should return 404 for an unknown model or version")
+        void shouldReturn404ForUnknownModel() {
+            evaluate("no-such-model", "").statusCode(404);
+
+            deploy(modelId, sampleXml).statusCode(201);
+            evaluate(modelId, "?version=7").statusCode(404);
+        }
+    }
+
+    @Nested
+    @DisplayName("Versions")
+    class VersionTests {
+
+        @Test
+        @DisplayName("Should follow the latest version unless one is pinned")
+        void shouldPinAndUnpin() {
+            // Given - version 2 approves nobody
+            deploy(modelId, sampleXml).statusCode(201);
+            deploy(modelId, rejectAll()).statusCode(201).body("latestVersion", equalTo(2));
+            evaluate(modelId, "").statusCode(200).body("result", equalTo(false));
+
+            // When
+            given().when().put("/dmn/models/" + modelId + "/pin/1")
+                    .then()
+                    .statusCode(200)
+                    .body("pinnedVersion", equalTo(1))
+                    .body("activeVersion", equalTo(1));
+
+            // Then
+            evaluate(modelId, "").statusCode(200).body("result", equalTo(true));
+            evaluate(modelId, "?version=2").statusCode(200).body("result", equalTo(false));
+
+            given().when().delete("/dmn/models/" + modelId + "/pin")
+                    .then()
+                    .statusCode(200)
+                    .body("activeVersion", equalTo(2));
+            evaluate(modelId, "").statusCode(200).body("result", equalTo(false));
+        }
+
+        @Test
+        @DisplayName("Should refuse to delete the pinned version")
+        void shouldNotDeletePinnedVersion() {
+            deploy(modelId, sampleXml).statusCode(201);
+            deploy(modelId, rejectAll()).statusCode(201);
+            given().when().put("/dmn/models/" + modelId + "/pin/1").then().statusCode(200);
+
+            given().when().delete("/dmn/models/" + modelId + "/versions/1").then().statusCode(409);
+            given().when().delete("/dmn/models/" + modelId + "/versions/2").then().statusCode(204);
+
+            given().when().get("/dmn/models/" + modelId)
+                    .then()
+                    .statusCode(200)
+                    .body("versions.version", contains(1));
+        }
+
+        @Test
+        @DisplayName("Should list and delete deployed models")
+        void shouldListAndDelete() {
+            deploy(modelId, sampleXml).statusCode(201);
+
+            given().when().get("/dmn/models").then().statusCode(200).body("id", hasItem(modelId));
+
+            given().when().delete("/dmn/models/" + modelId).then().statusCode(204);
+
+            given().when().get("/dmn/models").then().statusCode(200).body("id", not(hasItem(modelId)));
+            evaluate(modelId, "").statusCode(404);
+        }
+    }
+
+    private String rejectAll() {
+        // Same structure, but every rule answers false
+        return sampleXml.replace("<text>true</text>", "<text>false</text>");
+    }
+
+    private static ValidatableResponse deploy(String id, String xml) {
+        return given()
+                .contentType(ContentType.XML)
+                .queryParam("id", id)
+                .body(xml)
+                .when()
+                .post("/dmn/models")
+                .then();
+    }
+
+    private static ValidatableResponse evaluate(String id, String query) {
+        return given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("decisionName", "Approval Decision",
+                        "inputData", Map.of("age", 25, "income", 50000)))
+                .when()
+                .post("/dmn/models/" + id + "/evaluate" + query)
+                .then();
+    }
+}
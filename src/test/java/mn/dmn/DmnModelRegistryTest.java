@@ -0,0 +1,257 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("DMN Model Registry Tests")
+class DmnModelRegistryTest {
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @Test
+    @DisplayName("Should reuse the compiled model across calls")
+    void shouldReuseCompiledModel() {
+        CompiledDmnModel first = modelRegistry.get("sample-decision.dmn");
+        long hitsBefore = modelRegistry.getStats().getHits();
+
+        CompiledDmnModel second = modelRegistry.get("sample-decision.dmn");
+
+        assertSame(first, second, "Same compiled model should be returned");
+        assertEquals(hitsBefore + 1, modelRegistry.getStats().getHits(), "Second lookup should be a cache hit");
+        assertNotNull(first.getModel().getDecisionByName("Approval Decision"));
+    }
+
+    @Test
+    @DisplayName("Should recompile a filesystem model when reloaded after a change")
+    void shouldRecompileChangedFile() throws Exception {
+        Path dmnFile = Files.createTempDirectory("dmn-registry").resolve("registry-decision.dmn");
+        String original = readSample();
+        Files.writeString(dmnFile, original);
+
+        CompiledDmnModel first = modelRegistry.get(dmnFile.toString());
+        long compilationsBefore = modelRegistry.getStats().getCompilations();
+
+        Files.writeString(dmnFile, original.replace("&gt;= 30000", "&gt;= 35000"));
+        Files.setLastModifiedTime(dmnFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        CompiledDmnModel second = modelRegistry.reload(dmnFile.toString());
+
+        assertNotSame(first, second, "Changed content should produce a new compiled model");
+        assertSame(second, modelRegistry.get(dmnFile.toString()), "Requests should see the swapped model");
+        assertNotEquals(first.getFingerprint(), second.getFingerprint());
+        assertEquals(compilationsBefore + 1, modelRegistry.getStats().getCompilations());
+    }
+
+    @Test
+    @DisplayName("Should keep the compiled model when a file is touched without changes")
+    void shouldKeepModelForTouchedFile() throws Exception {
+        Path dmnFile = Files.createTempDirectory("dmn-registry").resolve("touched-decision.dmn");
+        Files.writeString(dmnFile, readSample());
+
+        CompiledDmnModel first = modelRegistry.get(dmnFile.toString());
+        Files.setLastModifiedTime(dmnFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        assertSame(first, modelRegistry.get(dmnFile.toString()), "Unchanged content should not be recompiled");
+    }
+
+    @Test
+    @DisplayName("Should fail for a missing DMN file")
+    void shouldFailForMissingFile() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> modelRegistry.get("missing-decision.dmn"));
+        assertTrue(e.getMessage().contains("missing-decision.dmn"));
+    }
+
+    @Test
+    @DisplayName("Should index compiled models by namespace and name")
+    void shouldIndexByNamespaceAndName() throws Exception {
+        Path dmnFile = Files.createTempDirectory("dmn-registry").resolve("indexed-decision.dmn");
+        Files.writeString(dmnFile, readSample().replace("https://example.com/dmn", "https://example.com/indexed"));
+
+        CompiledDmnModel compiled = modelRegistry.get(dmnFile.toString());
+
+        assertSame(compiled, modelRegistry.getByName("https://example.com/indexed", "Sample Decision"));
+        assertNull(modelRegistry.getByName("https://example.com/indexed", "Other Decision"));
+    }
+
+    @Test
+    @DisplayName("Should compile files into one shared runtime so models can import each other")
+    void shouldLoadSharedRuntime() throws Exception {
+        // Given - a model calling a business knowledge model of another file
+        Path dir = Files.createTempDirectory("dmn-shared");
+        Path library = dir.resolve("library.dmn");
+        Path scoring = dir.resolve("scoring.dmn");
+        Files.writeString(library, LIBRARY_DMN);
+        Files.writeString(scoring, SCORING_DMN);
+
+        // When
+        List<CompiledDmnModel> compiled = modelRegistry.loadShared(List.of(library.toString(), scoring.toString()));
+
+        // Then
+        assertEquals(2, compiled.size());
+        assertSame(compiled.get(0).getRuntime(), compiled.get(1).getRuntime(), "Models should share one runtime");
+        CompiledDmnModel scoringModel = modelRegistry.getByName("https://example.com/scoring", "Scoring");
+        assertSame(modelRegistry.get(scoring.toString()), scoringModel);
+
+        DMNRuntime runtime = scoringModel.getRuntime();
+        DMNContext context = runtime.newContext();
+        context.set("income", 21);
+        DMNResult result = runtime.evaluateByName(scoringModel.getModel(), context, "Score");
+        assertFalse(result.hasErrors(), () -> result.getMessages().toString());
+        assertEquals(0, new BigDecimal(42).compareTo((BigDecimal) result.getDecisionResultByName("Score").getResult()));
+    }
+
+    @Test
+    @DisplayName("Should give the same results with interpreted and compiled FEEL")
+    void shouldEvaluateCompiledFeel() throws Exception {
+        // Given
+        byte[] content = readSample().getBytes(StandardCharsets.UTF_8);
+        String fingerprint = DmnModelRegistry.fingerprint(content);
+
+        // When
+        CompiledDmnModel interpreted = modelRegistry.compile("feel-interpreted.dmn", fingerprint, content,
+                DmnModelRegistry.FeelMode.INTERPRETED);
+        CompiledDmnModel compiled = modelRegistry.compile("feel-compiled.dmn", fingerprint, content,
+                DmnModelRegistry.FeelMode.COMPILED);
+
+        // Then
+        assertEquals(DmnModelRegistry.FeelMode.COMPILED, compiled.getFeelMode());
+        for (int age = 10; age <= 70; age += 5) {
+            for (int income = 10000; income <= 70000; income += 10000) {
+                assertEquals(approval(interpreted, age, income), approval(compiled, age, income),
+                        "age " + age + ", income " + income);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should compile a file once when many requests need it at the same time")
+    void shouldCoalesceConcurrentCompilations() throws Exception {
+        // Given
+        Path dmnFile = Files.createTempDirectory("dmn-registry").resolve("burst-decision.dmn");
+        Files.writeString(dmnFile, readSample());
+        long compilationsBefore = modelRegistry.getStats().getCompilations();
+        long coalescedBefore = modelRegistry.getStats().getCoalescedCompilations();
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // When
+        List<Future<CompiledDmnModel>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return modelRegistry.get(dmnFile.toString());
+                }));
+            }
+            start.countDown();
+
+            // Then
+            CompiledDmnModel first = results.getFirst().get(60, TimeUnit.SECONDS);
+            for (Future<CompiledDmnModel> result : results) {
+                assertSame(first, result.get(60, TimeUnit.SECONDS), "Every caller should get the same compiled model");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(compilationsBefore + 1, modelRegistry.getStats().getCompilations(), "Content should compile once");
+        assertTrue(modelRegistry.getStats().getCoalescedCompilations() > coalescedBefore,
+                "Callers arriving during the compilation should wait for it");
+    }
+
+    @Test
+    @DisplayName("Should pick the FEEL mode per model, falling back to dmn.feel.mode")
+    void shouldResolveFeelModePerModel() {
+        DmnModelRegistry registry = new DmnModelRegistry();
+        registry.feelMode = DmnModelRegistry.FeelMode.INTERPRETED;
+        registry.config = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of("dmn.feel.mode.hot-path.dmn", "compiled"), "test", 100))
+                .build();
+
+        assertEquals(DmnModelRegistry.FeelMode.COMPILED, registry.feelMode("hot-path.dmn"));
+        assertEquals(DmnModelRegistry.FeelMode.INTERPRETED, registry.feelMode("sample-decision.dmn"));
+    }
+
+    private static Object approval(CompiledDmnModel model, int age, int income) {
+        DMNContext context = model.getRuntime().newContext();
+        context.set("age", age);
+        context.set("income", income);
+        DMNResult result = model.getRuntime().evaluateByName(model.getModel(), context, "Approval Decision");
+        assertFalse(result.hasErrors(), () -> result.getMessages().toString());
+        return result.getDecisionResultByName("Approval Decision").getResult();
+    }
+
+    static final String LIBRARY_DMN = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <definitions xmlns="https://www.omg.org/spec/DMN/20191111/MODEL/" id="library" name="Library"
+                         namespace="https://example.com/library">
+              <businessKnowledgeModel id="double" name="double">
+                <variable id="doubleVar" name="double" />
+                <encapsulatedLogic id="doubleLogic">
+                  <formalParameter id="doubleX" name="x" typeRef="number" />
+                  <literalExpression id="doubleBody">
+                    <text>x * 2</text>
+                  </literalExpression>
+                </encapsulatedLogic>
+              </businessKnowledgeModel>
+            </definitions>
+            """;
+
+    static final String SCORING_DMN = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <definitions xmlns="https://www.omg.org/spec/DMN/20191111/MODEL/" id="scoring" name="Scoring"
+                         namespace="https://example.com/scoring">
+              <import namespace="https://example.com/library" name="library"
+                      importType="https://www.omg.org/spec/DMN/20191111/MODEL/" />
+              <inputData id="income" name="income">
+                <variable id="incomeVar" name="income" typeRef="number" />
+              </inputData>
+              <decision id="score" name="Score">
+                <variable id="scoreVar" name="Score" typeRef="number" />
+                <informationRequirement id="scoreIncome">
+                  <requiredInput href="#income" />
+                </informationRequirement>
+                <knowledgeRequirement id="scoreDouble">
+                  <requiredKnowledge href="https://example.com/library#double" />
+                </knowledgeRequirement>
+                <literalExpression id="scoreBody">
+                  <text>library.double(income)</text>
+                </literalExpression>
+              </decision>
+            </definitions>
+            """;
+
+    private String readSample() throws Exception {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("sample-decision.dmn")) {
+            assertNotNull(in);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
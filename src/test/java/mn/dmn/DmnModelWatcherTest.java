@@ -0,0 +1,132 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("DMN Model Watcher Tests")
+class DmnModelWatcherTest {
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @Inject
+    DmnService dmnService;
+
+    @Test
+    @DisplayName("Should swap in a recompiled model after the file changes")
+    void shouldReloadChangedFile() throws Exception {
+        Path dmnFile = Files.createTempDirectory("dmn-watch").resolve("watched-decision.dmn");
+        String original = readSample();
+        Files.writeString(dmnFile, original);
+
+        DmnResponse before = dmnService.evaluateDecision(createRequest(dmnFile, 25, 32000));
+        assertTrue(before.isResult(), "Original rules should approve income 32000");
+        CompiledDmnModel first = modelRegistry.get(dmnFile.toString());
+
+        Files.writeString(dmnFile, original.replace("&gt;= 30000", "&gt;= 35000"));
+
+        CompiledDmnModel reloaded = awaitNewModel(dmnFile, first);
+        assertNotEquals(first.getFingerprint(), reloaded.getFingerprint());
+
+        DmnResponse after = dmnService.evaluateDecision(createRequest(dmnFile, 25, 32000));
+        assertFalse(after.isResult(), "Reloaded rules should reject income 32000");
+    }
+
+    @Test
+    @DisplayName("Should keep the previous model when the changed file does not compile")
+    void shouldKeepPreviousModelOnBrokenFile() throws Exception {
+        Path dmnFile = Files.createTempDirectory("dmn-watch").resolve("broken-decision.dmn");
+        Files.writeString(dmnFile, readSample());
+        CompiledDmnModel first = modelRegistry.get(dmnFile.toString());
+
+        Files.writeString(dmnFile, "<definitions");
+        Thread.sleep(1_000);
+
+        assertSame(first, modelRegistry.get(dmnFile.toString()), "Broken content should not replace the model");
+    }
+
+    @Test
+    @DisplayName("Should stop serving a deleted file without checking it")
+    void shouldCheckDeletedFileOnDisk() throws Exception {
+        Path dmnFile = Files.createTempDirectory("dmn-watch").resolve("deleted-decision.dmn");
+        Files.writeString(dmnFile, readSample());
+        modelRegistry.get(dmnFile.toString());
+
+        Files.delete(dmnFile);
+
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                modelRegistry.get(dmnFile.toString());
+            } catch (RuntimeException e) {
+                assertTrue(e.getMessage().contains("not found"), e.getMessage());
+                return;
+            }
+            Thread.sleep(100);
+        }
+        fail("The deleted file was still served");
+    }
+
+    @Test
+    @DisplayName("Should reload a symlinked file when its link is swapped, like a ConfigMap update")
+    void shouldReloadSwappedSymlink() throws Exception {
+        // Given - model.dmn -> ..data/model.dmn, ..data -> v1
+        Path dir = Files.createTempDirectory("dmn-watch-configmap");
+        String original = readSample();
+        Files.createDirectory(dir.resolve("v1"));
+        Files.writeString(dir.resolve("v1/model.dmn"), original);
+        Files.createDirectory(dir.resolve("v2"));
+        Files.writeString(dir.resolve("v2/model.dmn"), original.replace("&gt;= 30000", "&gt;= 35000"));
+        Files.createSymbolicLink(dir.resolve("..data"), Path.of("v1"));
+        Path dmnFile = Files.createSymbolicLink(dir.resolve("model.dmn"), Path.of("..data/model.dmn"));
+        CompiledDmnModel first = modelRegistry.get(dmnFile.toString());
+
+        // When - the link is replaced atomically, the way the kubelet updates a ConfigMap volume
+        Path swapped = Files.createSymbolicLink(dir.resolve("..data_tmp"), Path.of("v2"));
+        Files.move(swapped, dir.resolve("..data"), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        // Then
+        CompiledDmnModel reloaded = awaitNewModel(dmnFile, first);
+        assertNotEquals(first.getFingerprint(), reloaded.getFingerprint());
+        assertFalse(dmnService.evaluateDecision(createRequest(dmnFile, 25, 32000)).isResult());
+    }
+
+    private CompiledDmnModel awaitNewModel(Path dmnFile, CompiledDmnModel previous) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            CompiledDmnModel current = modelRegistry.get(dmnFile.toString());
+            if (current != previous) {
+                return current;
+            }
+            Thread.sleep(100);
+        }
+        return fail("Model was not reloaded after the file changed");
+    }
+
+    private DmnRequest createRequest(Path dmnFile, int age, int income) {
+        Map<String, Object> inputData = new HashMap<>();
+        inputData.put("age", age);
+        inputData.put("income", income);
+        return new DmnRequest(dmnFile.toString(), "Approval Decision", inputData);
+    }
+
+    private String readSample() throws Exception {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("sample-decision.dmn")) {
+            assertNotNull(in);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("DMN Response Writer Tests")
+class DmnResponseWriterTest {
+
+    private static final Jsonb JSONB = JsonbBuilder.create();
+
+    @AfterAll
+    static void closeJsonb() throws Exception {
+        JSONB.close();
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON as JSON-B for every kind of response")
+    void shouldMatchJsonb() throws Exception {
+        List<DmnResponse> responses = List.of(
+                new DmnResponse(true, "Decision 'Approval Decision' evaluated - Result: true"),
+                new DmnResponse(false, null),
+                new DmnResponse("Error evaluating DMN: \"quoted\" \\ back\\slash\n\ttab \u0001 control"),
+                new DmnResponse(true, "Unicode é€😀 and unpaired \uD800 surrogate"),
+                DmnResponse.evaluated(true, "Approval Decision", Boolean.TRUE),
+                DmnResponse.evaluated(true, "Score \"A\"", new BigDecimal("49900.50")),
+                DmnResponse.evaluated(false, null, null),
+                withDecisions(DmnResponse.evaluated(true, "Risk Score", new BigDecimal("42")),
+                        DmnResponse.evaluated(true, "Risk Score", new BigDecimal("42")),
+                        DmnResponse.evaluated(false, "Approval Decision", Boolean.FALSE)));
+
+        for (DmnResponse response : responses) {
+            byte[] written = write(response);
+            // Compare encoded bytes: an unpaired surrogate only becomes '?' when JSON-B's String is encoded
+            assertArrayEquals(JSONB.toJson(response).getBytes(StandardCharsets.UTF_8), written,
+                    () -> new String(written, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Should write typed decision values like JSON-B")
+    void shouldWriteTypedValues() throws Exception {
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("score", new BigDecimal("42.5"));
+        context.put("approved", true);
+        context.put("reasons", List.of("income", "age \"18\""));
+        context.put("missing", null);
+        context.put("due", LocalDate.of(2026, 1, 31));
+        context.put("nested", Map.of("count", 3L));
+        List<DmnResponse> responses = List.of(
+                DmnResponse.evaluated(true, "Offer", context).select(false, true),
+                DmnResponse.evaluated(true, "Offer", context).select(true, true),
+                DmnResponse.evaluated(true, "Scores", List.of(new BigDecimal("1"), new BigDecimal("2.25"))).select(false, true),
+                DmnResponse.evaluated(false, "Nothing", null).select(false, true),
+                withDecisions(DmnResponse.evaluated(true, "Offer", context),
+                        DmnResponse.evaluated(true, "Offer", context),
+                        DmnResponse.evaluated(true, "Label", "gold")).select(false, true));
+
+        for (DmnResponse response : responses) {
+            byte[] written = write(response);
+            assertArrayEquals(JSONB.toJson(response).getBytes(StandardCharsets.UTF_8), written,
+                    () -> new String(written, StandardCharsets.UTF_8));
+        }
+        assertEquals("{\"result\":true,\"success\":true,\"value\":[1,2.25]}",
+                new String(write(responses.get(2)), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should write batches like JSON-B")
+    void shouldMatchJsonbForBatches() throws Exception {
+        DmnBatchResponse batch = new DmnBatchResponse(List.of(
+                DmnResponse.evaluated(true, "Approval Decision", Boolean.TRUE),
+                new DmnResponse("Invalid row")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DmnResponseWriter.write(batch, out);
+
+        assertEquals(JSONB.toJson(batch), out.toString(StandardCharsets.UTF_8));
+        assertEquals(JSONB.toJson(new DmnBatchResponse("Batch failed")), writeBatch(new DmnBatchResponse("Batch failed")));
+        assertEquals(JSONB.toJson(new DmnBatchResponse(List.of())), writeBatch(new DmnBatchResponse(List.of())));
+    }
+
+    @Test
+    @DisplayName("Should format a lazy reason when it is read, without changing the response")
+    void shouldFormatLazyReason() {
+        DmnResponse response = DmnResponse.evaluated(true, "Approval Decision", new BigDecimal("12.5"));
+
+        assertTrue(response.hasLazyReason());
+        assertEquals("Decision 'Approval Decision' evaluated - Result: 12.5", response.getReason());
+        assertTrue(response.hasLazyReason(), "Shared responses should not be written to by readers");
+        assertNull(response.withoutReason().getReason());
+    }
+
+    private static DmnResponse withDecisions(DmnResponse response, DmnResponse... decisions) {
+        response.setDecisions(List.of(decisions));
+        return response;
+    }
+
+    private static byte[] write(DmnResponse response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DmnResponseWriter().writeTo(response, DmnResponse.class, DmnResponse.class, null, null, null, out);
+        return out.toByteArray();
+    }
+
+    private static String writeBatch(DmnBatchResponse batch) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DmnResponseWriter.write(batch, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
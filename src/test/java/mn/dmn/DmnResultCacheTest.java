@@ -0,0 +1,131 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("DMN Result Cache Tests")
+class DmnResultCacheTest {
+
+    private static final String DECISION = "Approval Decision";
+
+    @Inject
+    DmnService dmnService;
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @Inject
+    DmnResultCache resultCache;
+
+    @Test
+    @DisplayName("Should share one entry between equal numbers of different types")
+    void shouldHitForNormalizedInputs() {
+        // Given
+        DmnResponse first = dmnService.evaluateDecision(request(Map.of("age", 41, "income", 50000)));
+        long hitsBefore = resultCache.getStats().getHits();
+
+        // When
+        DmnResponse second = dmnService.evaluateDecision(request(Map.of("age", new BigDecimal("41.00"), "income", 50000.0)));
+
+        // Then
+        assertTrue(first.isSuccess());
+        assertSame(first, second, "Equal inputs should be answered from the cache");
+        assertEquals(hitsBefore + 1, resultCache.getStats().getHits());
+    }
+
+    @Test
+    @DisplayName("Should evaluate again when the caller bypasses the cache")
+    void shouldBypassCache() {
+        DmnResponse cached = dmnService.evaluateDecision(request(Map.of("age", 42, "income", 50000)));
+        long hitsBefore = resultCache.getStats().getHits();
+        long bypassedBefore = resultCache.getStats().getBypassed();
+
+        DmnResponse bypassed = dmnService.evaluateDecision(request(Map.of("age", 42, "income", 50000)), true);
+
+        assertNotSame(cached, bypassed);
+        assertEquals(cached.getReason(), bypassed.getReason());
+        assertEquals(hitsBefore, resultCache.getStats().getHits());
+        assertEquals(bypassedBefore + 1, resultCache.getStats().getBypassed());
+    }
+
+    @Test
+    @DisplayName("Should not reuse results of a model that has been recompiled")
+    void shouldInvalidateOnModelChange() throws Exception {
+        // Given
+        Path dmnFile = Files.createTempDirectory("dmn-cache").resolve("cached-decision.dmn");
+        // A distinct fingerprint, so only this test's entries belong to the replaced version
+        String original = readSample().replace("<decision ", "<!-- cache test -->\n  <decision ");
+        Files.writeString(dmnFile, original);
+        DmnRequest request = new DmnRequest(dmnFile.toString(), DECISION, Map.of("age", 30, "income", 32000));
+        assertTrue(dmnService.evaluateDecision(request).isResult(), "Income above 30000 should be approved");
+        long sizeBefore = resultCache.getStats().getSize();
+
+        // When
+        Files.writeString(dmnFile, original.replace("&gt;= 30000", "&gt;= 35000"));
+        modelRegistry.reload(dmnFile.toString());
+
+        // Then
+        assertEquals(sizeBefore - 1, resultCache.getStats().getSize(), "Entries of the old version should be dropped");
+        assertFalse(dmnService.evaluateDecision(request).isResult(), "The recompiled model should be evaluated");
+    }
+
+    @Test
+    @DisplayName("Should not reuse results of a model whose import changed")
+    void shouldInvalidateOnImportChange() throws Exception {
+        // Given - a scoring model calling a function of a library it imports
+        Path dir = Files.createTempDirectory("dmn-cache-shared");
+        Path library = dir.resolve("library.dmn");
+        Path scoring = dir.resolve("scoring.dmn");
+        Files.writeString(library, DmnModelRegistryTest.LIBRARY_DMN);
+        Files.writeString(scoring, DmnModelRegistryTest.SCORING_DMN);
+        modelRegistry.loadShared(List.of(library.toString(), scoring.toString()));
+        DmnRequest request = new DmnRequest(scoring.toString(), "Score", Map.of("income", 21));
+        DmnResponse before = dmnService.evaluateDecision(request);
+        assertTrue(before.isSuccess(), before::getError);
+        assertSame(before, dmnService.evaluateDecision(request), "The result should be cached");
+
+        // When - only the library changes, so the scoring model keeps its fingerprint
+        Files.writeString(library, DmnModelRegistryTest.LIBRARY_DMN.replace("x * 2", "x * 3"));
+        modelRegistry.reload(library.toString());
+
+        // Then
+        DmnResponse after = dmnService.evaluateDecision(request);
+        assertTrue(after.isSuccess(), after::getError);
+        assertEquals("Decision 'Score' evaluated - Result: 42", before.getReason());
+        assertEquals("Decision 'Score' evaluated - Result: 63", after.getReason());
+    }
+
+    @Test
+    @DisplayName("Should canonicalize numbers, maps and lists by value")
+    void shouldCanonicalizeInputs() {
+        assertEquals(DmnResultCache.canonicalize(new BigDecimal("50000")), DmnResultCache.canonicalize(50000.0));
+        assertEquals(DmnResultCache.canonicalize(5L), DmnResultCache.canonicalize(new BigDecimal("5.000")));
+        assertEquals(DmnResultCache.canonicalize(Map.of("a", 1, "b", List.of(2, 3.0))),
+                DmnResultCache.canonicalize(Map.of("b", List.of(2L, 3), "a", new BigDecimal("1.0"))));
+        assertNotEquals(DmnResultCache.canonicalize(0.1), DmnResultCache.canonicalize(0.10000001));
+        assertNotEquals(DmnResultCache.canonicalize("1"), DmnResultCache.canonicalize(1));
+    }
+
+    private static DmnRequest request(Map<String, Object> inputData) {
+        return new DmnRequest("sample-decision.dmn", DECISION, inputData);
+    }
+
+    private static String readSample() throws Exception {
+        try (InputStream in = DmnResultCacheTest.class.getClassLoader().getResourceAsStream("sample-decision.dmn")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -2,11 +2,18 @@ package mn.dmn;
 
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -18,6 +25,9 @@ class DmnServiceTest {
     @Inject
     DmnService dmnService;
 
+    @Inject
+    DmnModelRegistry modelRegistry;
+
     @Nested
     @DisplayName("Approval Decision Tests")
     class ApprovalDecisionTests {
@@ -311,6 +321,208 @@ class DmnServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Batch Evaluation Tests")
+    class BatchEvaluationTests {
+
+        @Test
+        @DisplayName("Should keep input order for batches split across cores")
+        void shouldKeepInputOrderForLargeBatch() {
+            // Given - alternating approved and rejected applicants
+            List<Map<String, Object>> inputs = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                inputs.add(createInputData(25, i % 2 == 0 ? 40000 : 20000, "apply"));
+            }
+            DmnBatchRequest request = new DmnBatchRequest("sample-decision.dmn", "Approval Decision", inputs);
+
+            // When
+            DmnBatchResponse response = dmnService.evaluateBatch(request);
+
+            // Then
+            assertTrue(response.isSuccess(), "Batch should succeed");
+            assertEquals(500, response.getResults().size());
+            for (int i = 0; i < 500; i++) {
+                assertEquals(i % 2 == 0, response.getResults().get(i).isResult(), "Result " + i + " out of order");
+            }
+        }
+
+        @Test
+        @DisplayName("Should report individual failures without failing the batch")
+        void shouldReportIndividualFailures() {
+            // Given
+            List<Map<String, Object>> inputs = List.of(createInputData(25, 40000, "apply"), new HashMap<>());
+            DmnBatchRequest request = new DmnBatchRequest("sample-decision.dmn", "Approval Decision", inputs);
+
+            // When
+            DmnBatchResponse response = dmnService.evaluateBatch(request);
+
+            // Then
+            assertTrue(response.isSuccess(), "Batch should succeed");
+            assertTrue(response.getResults().get(0).isSuccess());
+            assertFalse(response.getResults().get(1).isSuccess(), "Missing inputs should fail only that entry");
+        }
+    }
+
+    @Nested
+    @DisplayName("Multiple Decision Tests")
+    class MultipleDecisionTests {
+
+        @Test
+        @DisplayName("Should return every requested decision in request order")
+        void shouldEvaluateRequestedDecisions() throws Exception {
+            // Given
+            DmnRequest request = new DmnRequest();
+            request.setDmnFile(writeChainedModel());
+            request.setDecisionNames(List.of("Approval", "Risk Score"));
+            request.setInputData(Map.of("income", 40000));
+
+            // When
+            DmnResponse response = dmnService.evaluateDecision(request);
+
+            // Then
+            assertTrue(response.isSuccess(), response::getError);
+            assertEquals(2, response.getDecisions().size());
+            assertTrue(response.isResult(), "Top level should answer for the first decision");
+            assertTrue(response.getDecisions().get(0).getReason().contains("'Approval'"));
+            assertEquals("Decision 'Risk Score' evaluated - Result: 40", response.getDecisions().get(1).getReason());
+        }
+
+        @Test
+        @DisplayName("Should evaluate only the requested decisions no other one requires")
+        void shouldSelectRootDecisions() throws Exception {
+            CompiledDmnModel model = modelRegistry.get(writeChainedModel());
+
+            assertArrayEquals(new String[] {"Approval"}, model.rootDecisions(List.of("Risk Score", "Approval")));
+            assertArrayEquals(new String[] {"Risk Score", "Greeting"}, model.rootDecisions(List.of("Risk Score", "Greeting")));
+        }
+
+        @Test
+        @DisplayName("Should fail for an unknown decision name")
+        void shouldFailForUnknownDecision() throws Exception {
+            DmnRequest request = new DmnRequest();
+            request.setDmnFile(writeChainedModel());
+            request.setDecisionNames(List.of("Risk Score", "Nonexistent"));
+            request.setInputData(Map.of("income", 40000));
+
+            DmnResponse response = dmnService.evaluateDecision(request);
+
+            assertFalse(response.isSuccess());
+            assertEquals("Decision not found: Nonexistent", response.getError());
+        }
+
+        private String writeChainedModel() throws Exception {
+            Path dmnFile = Files.createTempDirectory("dmn-chained").resolve("chained.dmn");
+            Files.writeString(dmnFile, CHAINED_DMN);
+            return dmnFile.toString();
+        }
+    }
+
+    @Nested
+    @DisplayName("Flight Recorder Tests")
+    class FlightRecorderTests {
+
+        @Test
+        @DisplayName("Should record compilation and evaluation events")
+        void shouldRecordEvents() throws Exception {
+            // Given
+            Path dmnFile = Files.createTempDirectory("dmn-jfr").resolve("chained.dmn");
+            Files.writeString(dmnFile, CHAINED_DMN);
+            DmnRequest request = new DmnRequest();
+            request.setDmnFile(dmnFile.toString());
+            request.setDecisionNames(List.of("Approval", "Greeting"));
+            request.setInputData(Map.of("income", 40000));
+            Path dump = dmnFile.resolveSibling("recording.jfr");
+
+            // When
+            try (Recording recording = new Recording()) {
+                recording.enable(DmnEvaluationEvent.NAME).withoutThreshold();
+                recording.enable(DmnCompilationEvent.NAME).withoutThreshold();
+                recording.start();
+                assertTrue(dmnService.evaluateDecision(request).isSuccess());
+                recording.stop();
+                recording.dump(dump);
+            }
+
+            // Then
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+            RecordedEvent compilation = events.stream()
+                    .filter(e -> e.getEventType().getName().equals(DmnCompilationEvent.NAME))
+                    .filter(e -> e.getString("dmnFile").equals(dmnFile.toString()))
+                    .findFirst().orElseThrow();
+            assertTrue(compilation.getBoolean("success"));
+            assertEquals(3, compilation.getInt("decisions"));
+            assertEquals(0, compilation.getInt("rules"));
+
+            RecordedEvent evaluation = events.stream()
+                    .filter(e -> e.getEventType().getName().equals(DmnEvaluationEvent.NAME))
+                    .filter(e -> e.getString("dmnFile").equals(dmnFile.toString()))
+                    .findFirst().orElseThrow();
+            assertEquals("Chained", evaluation.getString("model"));
+            assertEquals("Approval,Greeting", evaluation.getString("decision"));
+            assertTrue(evaluation.getBoolean("success"));
+            assertFalse(evaluation.getDuration().isNegative());
+        }
+
+        @Test
+        @DisplayName("Should count decision table rules of a compiled model")
+        void shouldCountRules() throws Exception {
+            // Given
+            byte[] content = Files.readAllBytes(Path.of("src/main/resources/sample-decision.dmn"));
+            Path dump = Files.createTempFile("dmn-jfr", ".jfr");
+
+            // When
+            try (Recording recording = new Recording()) {
+                recording.enable(DmnCompilationEvent.NAME).withoutThreshold();
+                recording.start();
+                modelRegistry.compile("sample-decision.dmn", DmnModelRegistry.fingerprint(content), content);
+                recording.stop();
+                recording.dump(dump);
+            }
+
+            // Then
+            RecordedEvent compilation = RecordingFile.readAllEvents(dump).stream()
+                    .filter(e -> e.getEventType().getName().equals(DmnCompilationEvent.NAME))
+                    .findFirst().orElseThrow();
+            assertEquals("sample-decision.dmn", compilation.getString("dmnFile"));
+            assertEquals(5, compilation.getInt("rules"));
+        }
+    }
+
+    // Approval requires Risk Score; Greeting is independent of both
+    private static final String CHAINED_DMN = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <definitions xmlns="https://www.omg.org/spec/DMN/20191111/MODEL/" id="chained" name="Chained"
+                         namespace="https://example.com/chained">
+              <inputData id="income" name="income">
+                <variable id="incomeVar" name="income" typeRef="number" />
+              </inputData>
+              <decision id="riskScore" name="Risk Score">
+                <variable id="riskScoreVar" name="Risk Score" typeRef="number" />
+                <informationRequirement id="riskScoreIncome">
+                  <requiredInput href="#income" />
+                </informationRequirement>
+                <literalExpression id="riskScoreBody">
+                  <text>income / 1000</text>
+                </literalExpression>
+              </decision>
+              <decision id="approval" name="Approval">
+                <variable id="approvalVar" name="Approval" typeRef="boolean" />
+                <informationRequirement id="approvalRisk">
+                  <requiredDecision href="#riskScore" />
+                </informationRequirement>
+                <literalExpression id="approvalBody">
+                  <text>Risk Score &gt;= 30</text>
+                </literalExpression>
+              </decision>
+              <decision id="greeting" name="Greeting">
+                <variable id="greetingVar" name="Greeting" typeRef="string" />
+                <literalExpression id="greetingBody">
+                  <text>"hello"</text>
+                </literalExpression>
+              </decision>
+            </definitions>
+            """;
+
     // Helper methods
     private DmnRequest createRequest(int age, int income, String action) {
         DmnRequest request = new DmnRequest();
@@ -0,0 +1,158 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("DMN Stream Scorer Tests")
+class DmnStreamScorerTest {
+
+    @Inject
+    DmnStreamScorer streamScorer;
+
+    @Inject
+    DmnResultCache resultCache;
+
+    @Test
+    @DisplayName("Should score NDJSON rows in input order")
+    void shouldScoreNdjsonInOrder() throws Exception {
+        // Given - many more rows than the read-ahead queue holds
+        int rows = 5_000;
+        InputStream input = new GeneratedRows(rows, i -> "{\"age\": 25, \"income\": " + (i % 2 == 0 ? 40000 : 20000) + "}\n");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        streamScorer.score(input, output, "sample-decision.dmn", "Approval Decision", DmnStreamScorer.Format.NDJSON, Map.of());
+
+        // Then
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(rows, lines.size());
+        for (int i = 0; i < rows; i++) {
+            assertTrue(lines.get(i).contains("\"result\":" + (i % 2 == 0)), "Row " + i + " out of order: " + lines.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should score rows without reading or filling the result cache")
+    void shouldBypassResultCache() throws Exception {
+        // Given
+        int rows = 100;
+        InputStream input = new GeneratedRows(rows, i -> "{\"age\": 30, \"income\": " + (70000 + i) + "}\n");
+        DmnCacheStats before = resultCache.getStats();
+
+        // When
+        streamScorer.score(input, new ByteArrayOutputStream(), "sample-decision.dmn", "Approval Decision",
+                DmnStreamScorer.Format.NDJSON, Map.of());
+
+        // Then
+        DmnCacheStats after = resultCache.getStats();
+        assertEquals(before.getHits() + before.getMisses(), after.getHits() + after.getMisses(), "Rows should not look up the cache");
+        assertEquals(before.getBypassed() + rows, after.getBypassed());
+    }
+
+    @Test
+    @DisplayName("Should map CSV columns to DMN inputs")
+    void shouldMapCsvColumns() throws Exception {
+        // Given
+        String csv = "applicant_age,annual_income\n25,40000\n25,20000\n 16 , 55000 \n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        streamScorer.score(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), output,
+                "sample-decision.dmn", "Approval Decision", DmnStreamScorer.Format.CSV,
+                Map.of("applicant_age", "age", "annual_income", "income"));
+
+        // Then
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).contains("\"result\":true"));
+        assertTrue(lines.get(1).contains("\"result\":false"));
+        assertTrue(lines.get(2).contains("\"result\":true"));
+    }
+
+    @Test
+    @DisplayName("Should report malformed rows without stopping the stream")
+    void shouldReportMalformedRows() throws Exception {
+        // Given
+        String ndjson = "{\"age\": 25, \"income\": 40000}\n{not json\n{\"age\": 25, \"income\": 20000}\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        streamScorer.score(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), output,
+                "sample-decision.dmn", "Approval Decision", DmnStreamScorer.Format.NDJSON, Map.of());
+
+        // Then
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(1).contains("Invalid row at line 2"));
+        assertTrue(lines.get(2).contains("\"result\":false"));
+    }
+
+    @Test
+    @DisplayName("Should parse CSV values")
+    void shouldParseCsvValues() {
+        assertEquals(List.of("a", "b,c", "d\"e", ""), DmnStreamScorer.parseCsvLine("a,\"b,c\",\"d\"\"e\","));
+        assertEquals(new BigDecimal("49900"), DmnStreamScorer.toValue("49900"));
+        assertEquals(Boolean.TRUE, DmnStreamScorer.toValue("TRUE"));
+        assertEquals("apply", DmnStreamScorer.toValue("apply"));
+        assertNull(DmnStreamScorer.toValue(""));
+    }
+
+    @Test
+    @DisplayName("Should keep quoted CSV fields as exact strings")
+    void shouldKeepQuotedCsvFields() {
+        List<Object> values = DmnStreamScorer.parseCsvValues("\"00123\", \" a \",\"true\",\"\"");
+
+        assertEquals(List.of("00123", " a ", "true", ""), values);
+    }
+
+    @Test
+    @DisplayName("Should trim and convert unquoted CSV fields")
+    void shouldConvertUnquotedCsvFields() {
+        List<Object> values = DmnStreamScorer.parseCsvValues(" 00123 , a ,true,");
+
+        assertEquals(Arrays.asList(new BigDecimal("123"), "a", Boolean.TRUE, null), values);
+    }
+
+    /**
+     * Produces rows lazily so the test input is never held in memory as a whole.
+     */
+    private static final class GeneratedRows extends InputStream {
+
+        private final int rows;
+        private final java.util.function.IntFunction<String> row;
+        private int index;
+        private byte[] current = new byte[0];
+        private int position;
+
+        GeneratedRows(int rows, java.util.function.IntFunction<String> row) {
+            this.rows = rows;
+            this.row = row;
+        }
+
+        @Override
+        public int read() {
+            if (position == current.length) {
+                if (index == rows) {
+                    return -1;
+                }
+                current = row.apply(index++).getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            return current[position++];
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@TestProfile(DmnVirtualThreadModeTest.VirtualMode.class)
+@DisplayName("DMN Virtual Thread Execution Tests")
+class DmnVirtualThreadModeTest {
+
+    public static class VirtualMode implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("dmn.execution.mode", "virtual");
+        }
+    }
+
+    @Inject
+    DmnEvaluationExecutor evaluationExecutor;
+
+    @Test
+    @DisplayName("Should run evaluations on virtual threads")
+    void shouldRunOnVirtualThreads() {
+        boolean virtual = evaluationExecutor.submit(() -> Thread.currentThread().isVirtual()).toCompletableFuture().join();
+
+        assertTrue(virtual, "Evaluation should run on a virtual thread");
+    }
+
+    @Test
+    @DisplayName("Should evaluate over HTTP and report pinning")
+    void shouldEvaluateAndReportPinning() {
+        given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("dmnFile", "sample-decision.dmn",
+                        "decisionName", "Approval Decision",
+                        "inputData", Map.of("age", 25, "income", 50000)))
+                .when()
+                .post("/dmn/evaluate")
+                .then()
+                .statusCode(200)
+                .body("result", equalTo(true));
+
+        given()
+                .when()
+                .get("/dmn/execution/pinning")
+                .then()
+                .statusCode(200)
+                .body("mode", equalTo("virtual"))
+                .body("recording", equalTo(true))
+                .body("sites", notNullValue());
+    }
+}
@@ -0,0 +1,117 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("Fast Decision Table Tests")
+class FastDecisionTableTest {
+
+    private static final String DECISION = "Approval Decision";
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    @Test
+    @DisplayName("Should compile the sample approval table for the fast path")
+    void shouldCompileSampleTable() {
+        CompiledDmnModel compiledModel = modelRegistry.get("sample-decision.dmn");
+
+        FastDecisionTable table = compiledModel.getFastDecisionTable(DECISION);
+
+        assertNotNull(table, "Sample table should qualify for the fast path");
+        assertEquals(5, table.getRuleCount());
+    }
+
+    @Test
+    @DisplayName("Should match the KIE engine on a grid around every rule boundary")
+    void shouldMatchEngineAroundBoundaries() {
+        // Given
+        CompiledDmnModel compiledModel = modelRegistry.get("sample-decision.dmn");
+        FastDecisionTable table = compiledModel.getFastDecisionTable(DECISION);
+        int[] ages = {-1, 0, 17, 18, 19, 65, 120};
+        int[] incomes = {-1, 0, 29999, 30000, 30001, 49899, 49900, 49901, 49999, 50000, 50001, 1_000_000};
+
+        for (int age : ages) {
+            for (int income : incomes) {
+                Map<String, Object> inputData = Map.of("age", age, "income", income);
+
+                // When
+                Object fast = table.evaluate(inputData);
+                Object engine = evaluateWithEngine(compiledModel, inputData);
+
+                // Then
+                assertNotSame(FastDecisionTable.FALLBACK, fast, "Integer inputs should not fall back");
+                assertEquals(engine, fast, "age=" + age + ", income=" + income);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the KIE engine for decimal inputs next to a boundary")
+    void shouldMatchEngineForDecimals() {
+        CompiledDmnModel compiledModel = modelRegistry.get("sample-decision.dmn");
+        FastDecisionTable table = compiledModel.getFastDecisionTable(DECISION);
+
+        for (String income : new String[] {"29999.99", "30000.00", "49899.5", "49900.0", "49900.01", "49999.999"}) {
+            Map<String, Object> inputData = Map.of("age", new BigDecimal("17.5"), "income", new BigDecimal(income));
+
+            assertEquals(evaluateWithEngine(compiledModel, inputData), table.evaluate(inputData), "income=" + income);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back for inputs it cannot decide exactly")
+    void shouldFallBackForUndecidableInputs() {
+        FastDecisionTable table = modelRegistry.get("sample-decision.dmn").getFastDecisionTable(DECISION);
+        Map<String, Object> missingIncome = new HashMap<>();
+        missingIncome.put("age", 30);
+        missingIncome.put("income", null);
+
+        assertSame(FastDecisionTable.FALLBACK, table.evaluate(missingIncome));
+        assertSame(FastDecisionTable.FALLBACK, table.evaluate(Map.of("age", "thirty", "income", 40000)));
+        assertSame(FastDecisionTable.FALLBACK, table.evaluate(Map.of("age", 30, "income", new BigDecimal("40000.0000000000000001"))));
+        assertSame(FastDecisionTable.FALLBACK, table.evaluate(Map.of("age", 30, "income", Long.MAX_VALUE)));
+    }
+
+    @Test
+    @DisplayName("Should leave tables with non numeric tests to the engine")
+    void shouldNotCompileNonNumericTables() throws Exception {
+        // Given
+        Path dmnFile = Files.createTempDirectory("dmn-fastpath").resolve("string-decision.dmn");
+        Files.writeString(dmnFile, readSample().replace("<text>= 49900</text>", "<text>\"gold\"</text>"));
+
+        // When
+        CompiledDmnModel compiledModel = modelRegistry.get(dmnFile.toString());
+
+        // Then
+        assertNull(compiledModel.getFastDecisionTable(DECISION));
+    }
+
+    private static Object evaluateWithEngine(CompiledDmnModel compiledModel, Map<String, Object> inputData) {
+        DMNContext context = compiledModel.getRuntime().newContext();
+        inputData.forEach(context::set);
+        DMNResult result = compiledModel.getRuntime().evaluateByName(compiledModel.getModel(), context, DECISION);
+        return result.getDecisionResultByName(DECISION).getResult();
+    }
+
+    private static String readSample() throws Exception {
+        try (InputStream in = FastDecisionTableTest.class.getClassLoader().getResourceAsStream("sample-decision.dmn")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package mn.dmn;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("Parallel DRG Evaluator Tests")
+class ParallelDrgEvaluatorTest {
+
+    @Inject
+    DmnModelRegistry modelRegistry;
+
+    private ParallelDrgEvaluator evaluator;
+    private CompiledDmnModel model;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        evaluator = new ParallelDrgEvaluator();
+        evaluator.enabled = true;
+        evaluator.parallelism = 4;
+        evaluator.init();
+
+        Path dmnFile = Files.createTempDirectory("dmn-parallel").resolve("fan-out.dmn");
+        Files.writeString(dmnFile, FAN_OUT_DMN);
+        model = modelRegistry.get(dmnFile.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        evaluator.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should group the required decisions into independent levels")
+    void shouldPlanLevels() {
+        List<List<String>> levels = evaluator.plan(model, List.of("Total"));
+
+        assertNotNull(levels);
+        assertEquals(2, levels.size());
+        assertEquals(List.of("Age Score", "Income Score"), levels.get(0).stream().sorted().toList());
+        assertEquals(List.of("Total"), levels.get(1));
+    }
+
+    @Test
+    @DisplayName("Should give the same result as the sequential engine")
+    void shouldMatchSequentialEvaluation() {
+        Map<String, Object> inputData = Map.of("income", 42000, "age", 30);
+
+        ParallelDrgEvaluator.Result result = evaluator.evaluate(model, evaluator.plan(model, List.of("Total")), inputData);
+
+        DMNContext context = model.getRuntime().newContext();
+        inputData.forEach(context::set);
+        DMNResult sequential = model.getRuntime().evaluateByName(model.getModel(), context, "Total");
+        assertNull(result.error());
+        assertEquals(0, ((BigDecimal) sequential.getDecisionResultByName("Total").getResult())
+                .compareTo((BigDecimal) result.values().get("Total")));
+        assertEquals(0, new BigDecimal(102).compareTo((BigDecimal) result.values().get("Total")));
+    }
+
+    @Test
+    @DisplayName("Should stay sequential when disabled or when nothing can overlap")
+    void shouldNotPlanWithoutParallelism() {
+        assertNull(evaluator.plan(model, List.of("Income Score")), "A single decision has nothing to overlap");
+        assertNull(evaluator.plan(model, List.of("Unknown")));
+
+        ParallelDrgEvaluator disabled = new ParallelDrgEvaluator();
+        disabled.parallelism = 1;
+        disabled.init();
+        try {
+            assertNull(disabled.plan(model, List.of("Total")));
+        } finally {
+            disabled.shutdown();
+        }
+    }
+
+    // Total requires two scores that only depend on inputs
+    private static final String FAN_OUT_DMN = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <definitions xmlns="https://www.omg.org/spec/DMN/20191111/MODEL/" id="fanOut" name="Fan Out"
+                         namespace="https://example.com/fan-out">
+              <inputData id="income" name="income">
+                <variable id="incomeVar" name="income" typeRef="number" />
+              </inputData>
+              <inputData id="age" name="age">
+                <variable id="ageVar" name="age" typeRef="number" />
+              </inputData>
+              <decision id="incomeScore" name="Income Score">
+                <variable id="incomeScoreVar" name="Income Score" typeRef="number" />
+                <informationRequirement id="incomeScoreIncome">
+                  <requiredInput href="#income" />
+                </informationRequirement>
+                <literalExpression id="incomeScoreBody">
+                  <text>income / 1000</text>
+                </literalExpression>
+              </decision>
+              <decision id="ageScore" name="Age Score">
+                <variable id="ageScoreVar" name="Age Score" typeRef="number" />
+                <informationRequirement id="ageScoreAge">
+                  <requiredInput href="#age" />
+                </informationRequirement>
+                <literalExpression id="ageScoreBody">
+                  <text>age * 2</text>
+                </literalExpression>
+              </decision>
+              <decision id="total" name="Total">
+                <variable id="totalVar" name="Total" typeRef="number" />
+                <informationRequirement id="totalIncome">
+                  <requiredDecision href="#incomeScore" />
+                </informationRequirement>
+                <informationRequirement id="totalAge">
+                  <requiredDecision href="#ageScore" />
+                </informationRequirement>
+                <literalExpression id="totalBody">
+                  <text>Income Score + Age Score</text>
+                </literalExpression>
+              </decision>
+            </definitions>
+            """;
+}